@@ -0,0 +1,34 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.Player;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class Configs {
+
+    private Configs() {
+    }
+
+    static Config withPlayers(int playerCount) {
+        Config config = new Config();
+        Set<Player> players = new LinkedHashSet<>();
+        for (int i = 1; i <= playerCount; i++) {
+            players.add(new Player("Player" + i));
+        }
+        config.setPlayers(players);
+        return config;
+    }
+
+    static List<Card> deckOf(int size, int cost) {
+        List<Card> deck = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            deck.add(new Card(cost));
+        }
+        return deck;
+    }
+}
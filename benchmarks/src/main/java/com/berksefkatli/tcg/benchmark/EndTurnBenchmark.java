@@ -0,0 +1,64 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Ending a turn makes the next player draw a card, overload with a full hand or bleed with an empty deck. Games are
+// built before each iteration and every invocation ends a turn in all of them, so setup stays out of the measurement.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 50)
+@Measurement(iterations = 50)
+@Fork(1)
+@State(Scope.Thread)
+public class EndTurnBenchmark {
+
+    private static final int GAMES = 10_000;
+    private static final int HAND_SIZE = 3;
+
+    @Param({"draw", "overload", "bleed"})
+    public String scenario;
+
+    private final Game[] games = new Game[GAMES];
+    private Config config;
+
+    @Setup
+    public void configure() {
+        config = Configs.withPlayers(2);
+        config.setDeck(Configs.deckOf("bleed".equals(scenario) ? HAND_SIZE : 20, 1));
+        config.setInitialManaCapacity(1);
+        config.setMaxHandSize("overload".equals(scenario) ? HAND_SIZE : HAND_SIZE + 1);
+        config.setInitialHandSize(HAND_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void newGames(Sink sink) {
+        for (int i = 0; i < GAMES; i++) {
+            games[i] = new Game(sink.newListener(), config);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public Game[] endTurns() {
+        for (Game game : games) {
+            game.endTurn();
+        }
+        return games;
+    }
+}
@@ -0,0 +1,57 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.simulation.GreedyStrategy;
+import com.berksefkatli.tcg.simulation.Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Whole games with the default rules, every player plays its most expensive playable card.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+    @Param({"2", "8", "64"})
+    public int players;
+
+    private final Strategy strategy = new GreedyStrategy();
+    private Config config;
+    private long seed;
+
+    @Setup
+    public void configure() {
+        config = Configs.withPlayers(players);
+    }
+
+    @Benchmark
+    public int playGame(Sink sink) {
+        // Seeded so every run plays the same sequence of games.
+        Game game = new Game(sink.newListener(), config, seed++);
+        while (game.isGameLive()) {
+            Card card = strategy.chooseCard(game.getReadOnlyActivePlayer());
+            if (card == null) {
+                game.endTurn();
+            } else {
+                game.playCard(card);
+            }
+        }
+        return game.getWinnerSeat();
+    }
+}
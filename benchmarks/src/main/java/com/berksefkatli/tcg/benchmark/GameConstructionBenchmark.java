@@ -0,0 +1,32 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Player setup, deck shuffles, initial hands and the first turn.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameConstructionBenchmark {
+
+    private final Config config = new Config();
+
+    @Benchmark
+    public Game newGame(Sink sink) {
+        return new Game(sink.newListener(), config);
+    }
+}
@@ -0,0 +1,68 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.lobby.LobbyGame;
+import com.berksefkatli.tcg.lobby.LobbyListener;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// The active player of a large lobby empties a full hand of 1 cost cards, every card hits every other player
+// and nobody dies.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LobbyAreaDamageBenchmark {
+
+    private static final int HAND_SIZE = 5;
+
+    @Param({"1000", "10000", "100000"})
+    private int players;
+
+    private GameTemplate template;
+    private LobbyGame game;
+
+    @Setup
+    public void configure() {
+        Config config = Configs.withPlayers(players);
+        config.setDeck(Configs.deckOf(20, 1));
+        config.setInitialHealth(1000);
+        config.setMaxManaCapacity(HAND_SIZE);
+        config.setInitialManaCapacity(HAND_SIZE - 1);
+        config.setMaxHandSize(HAND_SIZE);
+        config.setInitialHandSize(HAND_SIZE);
+        template = new GameTemplate(config);
+    }
+
+    @Setup(Level.Invocation)
+    public void newGame() {
+        game = new LobbyGame(LobbyListener.NO_OP, template, 1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_SIZE)
+    public PlayResult playFullHand() {
+        PlayResult result = null;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            result = game.tryPlayCard(1);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// The active player empties a full hand, the last play hands the turn over to the next player. Games are built
+// before each iteration and every invocation plays through all of them, so setup stays out of the measurement.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 50)
+@Measurement(iterations = 50)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayCardBenchmark {
+
+    private static final int GAMES = 10_000;
+    private static final int HAND_SIZE = 5;
+    private static final Card CARD = new Card(2);
+
+    private final Game[] games = new Game[GAMES];
+    private Config config;
+
+    @Setup
+    public void configure() {
+        config = Configs.withPlayers(2);
+        config.setDeck(Configs.deckOf(20, CARD.getCost()));
+        config.setInitialHealth(1000);
+        config.setMaxManaCapacity(HAND_SIZE * CARD.getCost());
+        config.setInitialManaCapacity(HAND_SIZE * CARD.getCost() - 1);
+        config.setMaxHandSize(HAND_SIZE);
+        config.setInitialHandSize(HAND_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void newGames(Sink sink) {
+        for (int i = 0; i < GAMES; i++) {
+            games[i] = new Game(sink.newListener(), config);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES * HAND_SIZE)
+    public Game[] playFullHands() {
+        for (Game game : games) {
+            for (int i = 0; i < HAND_SIZE; i++) {
+                game.playCard(CARD);
+            }
+        }
+        return games;
+    }
+}
@@ -0,0 +1,55 @@
+package com.berksefkatli.tcg.benchmark;
+
+import com.berksefkatli.tcg.event.ConsoleGameListener;
+import com.berksefkatli.tcg.event.GameListener;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+@State(Scope.Thread)
+public class Sink {
+
+    // "none" leaves the listener out altogether, so only the game itself is measured.
+    @Param({"none", "null", "console"})
+    public String sink;
+
+    private PrintStream out;
+
+    @Setup
+    public void open() throws FileNotFoundException {
+        if ("console".equals(sink)) {
+            // Buffered and flushed on every line like System.out, but written to the null device
+            // so the game log does not flood the benchmark report.
+            String nullDevice = File.separatorChar == '\\' ? "NUL" : "/dev/null";
+            out = new PrintStream(new BufferedOutputStream(new FileOutputStream(nullDevice), 128), true);
+        } else {
+            out = new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void close() {
+        out.close();
+    }
+
+    public GameListener newListener() {
+        return "none".equals(sink) ? GameListener.NO_OP : new ConsoleGameListener(out);
+    }
+}
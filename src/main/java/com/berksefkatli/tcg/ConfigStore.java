@@ -0,0 +1,141 @@
+package com.berksefkatli.tcg;
+
+import com.berksefkatli.tcg.flight.FlightRecording;
+import com.berksefkatli.tcg.model.Config;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Saves the config in the background once changes stop coming in for a while. Files are replaced by writing a
+// temp file and renaming it over the old one, so a crash leaves either the old or the new config, never half of it.
+public class ConfigStore implements Closeable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path path;
+    private final Path tempPath;
+    private final long debounceMillis;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledWrite;
+    private byte[] pendingBytes;
+    private byte[] writtenBytes;
+    private IOException writeFailure;
+    private int writeCount;
+
+    public ConfigStore(String configPath) {
+        this(Paths.get(configPath), DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public ConfigStore(Path path, long debounceMillis) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.debounceMillis = debounceMillis;
+        try {
+            writtenBytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            // Nothing saved yet, the first change gets written.
+        }
+    }
+
+    // Takes a copy of the config as it is now, later changes need another call.
+    public synchronized void markDirty(Config config) throws IOException {
+        pendingBytes = objectMapper.writeValueAsBytes(config);
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "tcg-config-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledWrite = scheduler.schedule(this::writeInBackground, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean isDirty() {
+        return pendingBytes != null;
+    }
+
+    public synchronized int getWriteCount() {
+        return writeCount;
+    }
+
+    // Writes pending changes right away, and reports a failed background write if there was one.
+    public synchronized void flush() throws IOException {
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+            scheduledWrite = null;
+        }
+        IOException failure = writeFailure;
+        writeFailure = null;
+        write();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    private synchronized void writeInBackground() {
+        try {
+            write();
+        } catch (IOException e) {
+            writeFailure = e;
+        }
+    }
+
+    private void write() throws IOException {
+        byte[] bytes = pendingBytes;
+        if (bytes == null) {
+            return;
+        }
+        if (Arrays.equals(bytes, writtenBytes)) {
+            pendingBytes = null;
+            return;
+        }
+        Object flightEvent = FlightRecording.beginConfigSave();
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        pendingBytes = null;
+        writtenBytes = bytes;
+        writeCount++;
+        FlightRecording.endConfigSave(flightEvent, path, bytes.length);
+    }
+}
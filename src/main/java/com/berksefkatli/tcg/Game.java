@@ -1,74 +1,142 @@
 package com.berksefkatli.tcg;
 
-import com.berksefkatli.tcg.exception.TcgException.CannotPlayCardNotInHandException;
-import com.berksefkatli.tcg.exception.TcgException.GameNotLiveException;
-import com.berksefkatli.tcg.exception.TcgException.NotEnoughManaException;
+import com.berksefkatli.tcg.event.ConsoleGameListener;
+import com.berksefkatli.tcg.event.GameListener;
 import com.berksefkatli.tcg.model.Card;
 import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.DrawPile;
+import com.berksefkatli.tcg.model.GameSnapshot;
+import com.berksefkatli.tcg.model.GameTemplate;
 import com.berksefkatli.tcg.model.Player;
+import com.berksefkatli.tcg.model.PlayerSnapshot;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+import com.berksefkatli.tcg.model.TurnOrder;
+import com.berksefkatli.tcg.model.Zobrist;
 
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public class Game {
 
-    private final Config config;
-    private final List<Player> players;
-    private final PrintStream out;
-    private int activePlayerIndex;
+    private final GameTemplate template;
+    // Indexed by seat, eliminated players stay in their seats but leave the turn order.
+    private final Player[] seats;
+    private final TurnOrder turnOrder;
+    private final List<Player> readOnlyPlayers;
+    private final int[] deadSeats;
+    private final GameListener listener;
+    private final SplittableRandom random;
+    private PlayerSnapshot[] lastPlayerSnapshots;
+    private volatile GameSnapshot snapshot;
+    private long snapshotSequence;
     private boolean gameStarted;
     private boolean gameEnded;
 
     public Game(PrintStream out, Config config) {
-        this.out = out;
-        this.config = config;
-        this.players = config.getPlayers().stream().map(Player::new).collect(Collectors.toList());
+        this(new ConsoleGameListener(out), config);
+    }
+
+    public Game(GameListener listener, Config config) {
+        this(listener, config, ThreadLocalRandom.current().nextLong());
+    }
+
+    public Game(GameListener listener, Config config, long seed) {
+        this(listener, new GameTemplate(config), seed);
+    }
+
+    public Game(GameListener listener, GameTemplate template) {
+        this(listener, template, ThreadLocalRandom.current().nextLong());
+    }
+
+    public Game(GameListener listener, GameTemplate template, long seed) {
+        this.listener = listener;
+        this.template = template;
+        // Every random choice of the game comes from this seed, so the seed and the moves replay the game.
+        this.random = new SplittableRandom(seed);
+        this.seats = new Player[template.getPlayerCount()];
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat] = new Player(template.getPlayerName(seat));
+        }
+        this.turnOrder = new TurnOrder(seats.length);
+        this.readOnlyPlayers = new LivePlayers();
+        this.deadSeats = new int[seats.length];
+        this.listener.onGameStarted(template, seed);
         start();
+        this.listener.onCommandCompleted();
+    }
+
+    // Headless copy for search, it reports to no listener.
+    private Game(Game game) {
+        this.listener = GameListener.NO_OP;
+        this.template = game.template;
+        this.random = game.random;
+        this.seats = new Player[game.seats.length];
+        game.readOnlyPlayers.forEach(player -> seats[player.getSeat()] = new Player(player));
+        this.turnOrder = new TurnOrder(game.turnOrder);
+        this.readOnlyPlayers = new LivePlayers();
+        this.deadSeats = new int[seats.length];
+        this.gameStarted = game.gameStarted;
+        this.gameEnded = game.gameEnded;
+    }
+
+    public Game headlessCopy() {
+        return new Game(this);
+    }
+
+    // Deck order is hidden from players, searching bots reshuffle the remaining decks of their copies.
+    public void reshuffleDecks(long seed) {
+        SplittableRandom deckRandom = new SplittableRandom(seed);
+        readOnlyPlayers.forEach(player -> player.shuffleDeck(deckRandom));
     }
 
     private void start() {
         initializePlayers();
-        activePlayerIndex = new Random().nextInt(players.size());
+        turnOrder.setActiveSeat(random.nextInt(seats.length));
         gameStarted = true;
         advanceToNextPlayer();
     }
 
     private void initializePlayers() {
-        players.forEach(player -> {
-            player.setHealth(config.getInitialHealth());
-            player.setManaCapacity(config.getInitialManaCapacity());
-            player.setHand(new ArrayList<>());
-            player.setDeck(getShuffledDeck(config.getDeck()));
-            for (int i = 0; i < config.getInitialHandSize(); i++) {
-                player.getHand().add(player.getDeck().pop());
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = seats[seat];
+            player.setSeat(seat);
+            player.setHealth(template.getInitialHealth());
+            player.setManaCapacity(template.getInitialManaCapacity());
+            player.clearHand();
+            player.setDrawPile(getShuffledDeck());
+            for (int i = 0; i < template.getInitialHandSize(); i++) {
+                player.addToHand(player.drawCard());
             }
-        });
+        }
     }
 
-    private Deque<Card> getShuffledDeck(List<Card> deck) {
-        Collections.shuffle(deck);
-        return new ArrayDeque<>(deck);
+    private DrawPile getShuffledDeck() {
+        DrawPile drawPile = new DrawPile(template.copyDeck());
+        drawPile.shuffle(random);
+        return drawPile;
     }
 
     private void advanceToNextPlayer() {
-        activePlayerIndex = (activePlayerIndex + 1) % players.size();
+        turnOrder.advance();
         initializeNextTurn();
     }
 
     private void initializeNextTurn() {
         Player activePlayer = getActivePlayer();
+        listener.onTurnStarted(activePlayer);
         increaseManaCapacity(activePlayer);
         tryToDrawFromDeck(activePlayer);
     }
 
     public void increaseManaCapacity(Player player) {
-        player.setManaCapacity(Math.min(player.getManaCapacity() + 1, config.getMaxManaCapacity()));
+        player.setManaCapacity(Math.min(player.getManaCapacity() + 1, template.getMaxManaCapacity()));
         player.setMana(player.getManaCapacity());
     }
 
     public void tryToDrawFromDeck(Player player) {
-        if (player.getDeck().isEmpty()) {
+        if (player.getDeckSize() == 0) {
             bleedOut(player);
         } else {
             drawFromDeck(player);
@@ -77,10 +145,10 @@ public class Game {
     }
 
     private void bleedOut(Player player) {
-        out.println(player.getName() + " is bleeding out!");
-        player.setHealth(player.getHealth() - config.getBleedingDamageAmount());
+        listener.onPlayerBled(player, template.getBleedingDamageAmount());
+        player.setHealth(player.getHealth() - template.getBleedingDamageAmount());
         if (player.isDead()) {
-            removeActiveDeadPlayer(player);
+            removeDeadPlayer(player);
             if (isLastOneStanding()) {
                 return;
             }
@@ -91,79 +159,97 @@ public class Game {
     }
 
     private void drawFromDeck(Player player) {
-        Card drawnCard = player.getDeck().pop();
-        if (player.getHand().size() == config.getMaxHandSize()) {
-            out.println(player.getName() + " is overloaded!");
+        int drawnCost = player.drawCard();
+        listener.onCardDrawn(player, drawnCost);
+        if (player.getHandSize() == template.getMaxHandSize()) {
+            listener.onPlayerOverloaded(player);
         } else {
-            player.getHand().add(drawnCard);
+            player.addToHand(drawnCost);
         }
     }
 
     private void advanceToNextPlayerIfNoPlayableCards() {
-        if (getActivePlayer().getPlayableCards().isEmpty()) {
-            out.println("No playable cards exist. Auto skipping " + getActivePlayer().getName() + "'s turn.");
+        if (!getActivePlayer().hasPlayableCard()) {
+            listener.onTurnSkipped(getActivePlayer());
             advanceToNextPlayer();
         } else {
-            printGameState();
+            listener.onAwaitingPlay(readOnlyPlayers, getActivePlayer());
         }
     }
 
-    private void removeActiveDeadPlayer(Player deadPlayer) {
-        Player previousPlayer = players.get((activePlayerIndex + players.size() - 1) % players.size());
-        players.remove(deadPlayer);
-        activePlayerIndex = players.indexOf(previousPlayer);
-        out.println(deadPlayer.getName() + " has lost!");
+    // The turn order keeps the active seat when others leave, and steps back to the previous seat
+    // when the active player leaves so the next advance lands on the seat after them.
+    private void removeDeadPlayer(Player deadPlayer) {
+        turnOrder.remove(deadPlayer.getSeat());
+        listener.onPlayerEliminated(deadPlayer);
     }
 
-    private void removeInactiveDeadPlayer(Player deadPlayer) {
-        Player activePlayer = getActivePlayer();
-        players.remove(deadPlayer);
-        activePlayerIndex = players.indexOf(activePlayer);
-        out.println(deadPlayer.getName() + " has lost!");
+    public void playCard(Card card) {
+        PlayResult result = checkPlay(card.getCost());
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+        play(card.getCost());
     }
 
-    public void playCard(Card card) {
-        validatePlay(card);
-        out.println(getActivePlayer().getName() + " played a card with " + card.getCost() + " cost");
-        getActivePlayer().setMana(getActivePlayer().getMana() - card.getCost());
-        getActivePlayer().getHand().remove(card);
-        dealDamage(card);
-        if (isLastOneStanding()) {
-            return;
+    // Same rules as playCard but reports a broken rule as a result instead of throwing.
+    public PlayResult tryPlayCard(int cost) {
+        PlayResult result = checkPlay(cost);
+        if (result.isOk()) {
+            play(cost);
         }
-        advanceToNextPlayerIfNoPlayableCards();
+        return result;
     }
 
-    private void validatePlay(Card card) {
-        validateGameLive();
-        if (!getActivePlayer().getHand().contains(card)) {
-            throw new CannotPlayCardNotInHandException();
+    private void play(int cost) {
+        listener.onCardPlayed(getActivePlayer(), cost);
+        getActivePlayer().setMana(getActivePlayer().getMana() - cost);
+        getActivePlayer().removeFromHand(cost);
+        dealDamage(cost);
+        if (!isLastOneStanding()) {
+            advanceToNextPlayerIfNoPlayableCards();
+        }
+        publishSnapshot();
+        listener.onCommandCompleted();
+    }
+
+    private PlayResult checkPlay(int cost) {
+        if (!isGameLive()) {
+            return PlayResult.GAME_NOT_LIVE;
+        }
+        if (!getActivePlayer().hasInHand(cost)) {
+            return PlayResult.CARD_NOT_IN_HAND;
         }
-        if (getActivePlayer().getMana() < card.getCost()) {
-            throw new NotEnoughManaException();
+        if (getActivePlayer().getMana() < cost) {
+            return PlayResult.NOT_ENOUGH_MANA;
         }
+        return PlayResult.OK;
     }
 
-    private void dealDamage(Card card) {
-        List<Player> deadPlayers = new ArrayList<>();
-        if (card.getCost() > 0) {
-            players.forEach(player -> {
-                if (!player.equals(getActivePlayer())) {
-                    player.setHealth(player.getHealth() - card.getCost());
-                    out.println(player.getName() + " took " + card.getCost() + " damage!");
+    private void dealDamage(int cost) {
+        if (cost > 0) {
+            int deadCount = 0;
+            int activeSeat = turnOrder.getActiveSeat();
+            for (int i = 0, seat = turnOrder.first(); i < turnOrder.size(); i++, seat = turnOrder.next(seat)) {
+                if (seat != activeSeat) {
+                    Player player = seats[seat];
+                    player.setHealth(player.getHealth() - cost);
+                    listener.onDamageDealt(player, cost);
                     if (player.isDead()) {
-                        deadPlayers.add(player);
+                        deadSeats[deadCount++] = seat;
                     }
                 }
-            });
-            deadPlayers.forEach(this::removeInactiveDeadPlayer);
+            }
+            for (int i = 0; i < deadCount; i++) {
+                removeDeadPlayer(seats[deadSeats[i]]);
+            }
         }
     }
 
     private boolean isLastOneStanding() {
-        if (players.size() == 1) {
+        if (turnOrder.size() == 1) {
             gameEnded = true;
-            out.println(players.get(0).getName() + " has won!");
+            listener.onGameWon(seats[turnOrder.first()]);
             return true;
         }
         return false;
@@ -171,44 +257,181 @@ public class Game {
 
     private void validateGameLive() {
         if (!isGameLive()) {
-            throw new GameNotLiveException();
+            throw PlayResult.GAME_NOT_LIVE.toException();
         }
     }
 
     public void endTurn() {
         validateGameLive();
-        out.println(getActivePlayer().getName() + "'s turn ended");
+        end();
+    }
+
+    public PlayResult tryEndTurn() {
+        if (!isGameLive()) {
+            return PlayResult.GAME_NOT_LIVE;
+        }
+        end();
+        return PlayResult.OK;
+    }
+
+    private void end() {
+        listener.onTurnEnded(getActivePlayer());
         advanceToNextPlayer();
+        publishSnapshot();
+        listener.onCommandCompleted();
+    }
+
+    public void refresh() {
+        validateGameLive();
+        listener.onRefreshRequested(readOnlyPlayers, getActivePlayer());
+        listener.onCommandCompleted();
+    }
+
+    private void publishSnapshot() {
+        if (lastPlayerSnapshots == null) {
+            return;
+        }
+        GameSnapshot previousSnapshot = snapshot;
+        boolean changed = previousSnapshot == null || previousSnapshot.getPlayers().size() != turnOrder.size();
+        PlayerSnapshot[] playerSnapshots = new PlayerSnapshot[turnOrder.size()];
+        for (int i = 0, seat = turnOrder.first(); i < playerSnapshots.length; i++, seat = turnOrder.next(seat)) {
+            Player player = seats[seat];
+            PlayerSnapshot playerSnapshot = lastPlayerSnapshots[player.getSeat()];
+            if (playerSnapshot == null || !playerSnapshot.isCurrent(player)) {
+                playerSnapshot = new PlayerSnapshot(player);
+                lastPlayerSnapshots[player.getSeat()] = playerSnapshot;
+            }
+            playerSnapshots[i] = playerSnapshot;
+            changed = changed || previousSnapshot.getPlayers().get(i) != playerSnapshot;
+        }
+        // Untouched players, or the whole list when nobody changed, are shared with the previous snapshot.
+        List<PlayerSnapshot> snapshotPlayers = changed
+                ? Collections.unmodifiableList(Arrays.asList(playerSnapshots))
+                : previousSnapshot.getPlayers();
+        snapshot = new GameSnapshot(snapshotPlayers, lastPlayerSnapshots[getActivePlayer().getSeat()],
+                isGameLive(), snapshotSequence++);
+    }
+
+    // Sum of the players' incrementally kept hashes and the active seat's key, eliminated players are left out.
+    public long getZobristHash() {
+        long hash = Zobrist.key(getActivePlayer().getSeat(), Zobrist.ACTIVE, 1);
+        for (Player player : readOnlyPlayers) {
+            hash += player.getZobristHash();
+        }
+        return hash;
+    }
+
+    // Publishing costs a snapshot of every changed player after each command, so it is left to games that have
+    // readers on other threads. Call it on the game thread before handing the game to them.
+    public void enableSnapshots() {
+        if (lastPlayerSnapshots == null) {
+            lastPlayerSnapshots = new PlayerSnapshot[seats.length];
+            publishSnapshot();
+        }
+    }
+
+    // Null until snapshots are enabled.
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Built from the current state on the caller's thread, works whether or not snapshots are published.
+    public GameSnapshot captureSnapshot() {
+        List<PlayerSnapshot> players = new ArrayList<>(turnOrder.size());
+        PlayerSnapshot activePlayer = null;
+        for (Player player : readOnlyPlayers) {
+            PlayerSnapshot playerSnapshot = new PlayerSnapshot(player);
+            players.add(playerSnapshot);
+            if (player.getSeat() == turnOrder.getActiveSeat()) {
+                activePlayer = playerSnapshot;
+            }
+        }
+        return new GameSnapshot(Collections.unmodifiableList(players), activePlayer, isGameLive(), 0);
+    }
+
+    public int getActiveSeat() {
+        return getActivePlayer().getSeat();
+    }
+
+    public long getActivePlayableCostsMask() {
+        return getActivePlayer().playableCostsMask();
+    }
+
+    public int getSeatCount() {
+        return template.getPlayerCount();
     }
 
-    private void printGameState() {
-        out.println("===============================================================");
-        out.println("Players: ");
-        players.forEach(player -> out.println(player.toString()));
-        out.println("===============================================================");
-        out.println("Active player: " + getActivePlayer().getName());
-        out.println("Active player's hand: " + getActivePlayer().getHand()
-                .stream().map(Card::getCost).collect(Collectors.toList()));
-        out.println("Choose a card to play by entering its cost, " +
-                "end your turn by entering 'end' or quit the game by entering 'quit': ");
+    // Seat of the last one standing, or -1 while the game is not over.
+    public int getWinnerSeat() {
+        return gameEnded ? turnOrder.first() : -1;
     }
 
     List<Player> getCopyOfPlayers() {
         // Return a copy of player objects to make it read-only.
-        return players.stream().map(Player::new).collect(Collectors.toList());
+        return readOnlyPlayers.stream().map(Player::new).collect(Collectors.toList());
     }
 
-    Player getCopyOfActivePlayer() {
+    public Player getCopyOfActivePlayer() {
         // Return a copy of player object to make it read-only.
-        return new Player(players.get(activePlayerIndex));
+        return new Player(getActivePlayer());
+    }
+
+    // The live active player, changes as the game goes on. Cheaper than a copy for deciding the next move.
+    public ReadOnlyPlayer getReadOnlyActivePlayer() {
+        return getActivePlayer();
     }
 
     private Player getActivePlayer() {
-        return players.get(activePlayerIndex);
+        return seats[turnOrder.getActiveSeat()];
     }
 
     public boolean isGameLive() {
         return gameStarted && !gameEnded;
     }
 
+    // Read-only view of the players still in the game in seat order, walks the turn order instead of copying.
+    private class LivePlayers extends AbstractList<Player> {
+
+        @Override
+        public Player get(int index) {
+            if (index < 0 || index >= turnOrder.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + turnOrder.size());
+            }
+            int seat = turnOrder.first();
+            for (int i = 0; i < index; i++) {
+                seat = turnOrder.next(seat);
+            }
+            return seats[seat];
+        }
+
+        @Override
+        public int size() {
+            return turnOrder.size();
+        }
+
+        @Override
+        public Iterator<Player> iterator() {
+            return new Iterator<Player>() {
+                private int remaining = turnOrder.size();
+                private int seat = turnOrder.first();
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public Player next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Player player = seats[seat];
+                    seat = turnOrder.next(seat);
+                    remaining--;
+                    return player;
+                }
+            };
+        }
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.berksefkatli.tcg;
+
+import com.berksefkatli.tcg.exception.TcgException;
+import com.berksefkatli.tcg.exception.TcgException.CannotPlayCardNotInHandException;
+import com.berksefkatli.tcg.exception.TcgException.GameNotLiveException;
+import com.berksefkatli.tcg.exception.TcgException.NotEnoughManaException;
+
+// Outcome of a non-throwing play, the constants are shared so no call allocates.
+public enum PlayResult {
+    OK(null),
+    CARD_NOT_IN_HAND(CannotPlayCardNotInHandException.MESSAGE),
+    NOT_ENOUGH_MANA(NotEnoughManaException.MESSAGE),
+    GAME_NOT_LIVE(GameNotLiveException.MESSAGE);
+
+    private final String message;
+
+    PlayResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isOk() {
+        return this == OK;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    TcgException toException() {
+        switch (this) {
+            case CARD_NOT_IN_HAND:
+                return new CannotPlayCardNotInHandException();
+            case NOT_ENOUGH_MANA:
+                return new NotEnoughManaException();
+            case GAME_NOT_LIVE:
+                return new GameNotLiveException();
+            default:
+                throw new IllegalStateException("No exception for " + this);
+        }
+    }
+}
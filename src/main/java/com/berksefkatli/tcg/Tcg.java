@@ -1,8 +1,114 @@
 package com.berksefkatli.tcg;
 
+import com.berksefkatli.tcg.event.BatchingOutputStream;
+import com.berksefkatli.tcg.flight.FlightRecording;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.server.GameServer;
+import com.berksefkatli.tcg.server.SessionHost;
+import com.berksefkatli.tcg.simulation.SimulationResult;
+import com.berksefkatli.tcg.simulation.Simulator;
+import com.berksefkatli.tcg.stats.StatsReport;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
 public class Tcg {
 
+    public static final int DEFAULT_SERVER_PORT = 7777;
+    public static final int DEFAULT_SESSION_THREADS = 200;
+    public static final String RECORDING_PROPERTY = "tcg.jfr";
+    public static final long DEFAULT_SIMULATED_GAMES = 100_000;
+    public static final String SIMULATE_USAGE = "Usage: simulate [games] [csv|json]";
+
     public static void main(String[] args) {
-        UserInterface.mainMenu("config.json", System.in, System.out, System.err);
+        startFlightRecording();
+        String mode = args != null && args.length > 0 ? args[0] : "";
+        String argument = args != null && args.length > 1 ? args[1] : null;
+        switch (mode) {
+            case "server":
+                serve(argument == null ? DEFAULT_SERVER_PORT : Integer.parseInt(argument));
+                break;
+            case "sessions":
+                hostSessions(argument == null ? DEFAULT_SERVER_PORT : Integer.parseInt(argument));
+                break;
+            case "simulate":
+                simulate(argument == null ? DEFAULT_SIMULATED_GAMES : Long.parseLong(argument),
+                        args.length > 2 ? args[2] : "csv");
+                break;
+            default:
+                // One write to the terminal per command instead of one per line.
+                PrintStream out = new PrintStream(new BatchingOutputStream(System.out), false);
+                UserInterface.mainMenu("config.json", System.in, out, System.err);
+                out.flush();
+        }
+    }
+
+    // -Dtcg.jfr=<file> records the JDK defaults and the game events into the file until the JVM exits.
+    private static void startFlightRecording() {
+        String destination = System.getProperty(RECORDING_PROPERTY);
+        if (destination == null) {
+            return;
+        }
+        try {
+            if (!FlightRecording.startRecording(Paths.get(destination))) {
+                System.err.println("Flight recorder is not available on this JVM.");
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to start the flight recording: " + e.getMessage());
+        }
+    }
+
+    private static void serve(int port) {
+        GameServer server = new GameServer(UserInterface.getConfigFromFile("config.json", System.out, System.err), port);
+        try {
+            server.start();
+            System.out.println("Serving games on port " + server.getPort());
+            server.awaitTermination();
+        } catch (IOException e) {
+            System.err.println("Unable to start the server: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Plays greedy bots against each other with config.json and prints the stats report to stdout.
+    private static void simulate(long games, String format) {
+        if (!"csv".equals(format) && !"json".equals(format)) {
+            System.err.println(SIMULATE_USAGE);
+            return;
+        }
+        Config config = UserInterface.getConfigFromFile("config.json", System.err, System.err);
+        SimulationResult result = new Simulator(config).run(games, System.nanoTime());
+        Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        try {
+            if ("json".equals(format)) {
+                StatsReport.writeJson(result.getStats(), writer);
+            } else {
+                StatsReport.writeCsv(result.getStats(), writer);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Unable to write the report: " + e.getMessage());
+        }
+        System.err.println(result);
+    }
+
+    private static void hostSessions(int port) {
+        SessionHost host = new SessionHost("config.json", new InetSocketAddress(port), DEFAULT_SESSION_THREADS);
+        try {
+            host.start();
+            System.out.println("Hosting sessions on port " + host.getPort() +
+                    (host.isUsingVirtualThreads() ? " with virtual threads" : " with " + DEFAULT_SESSION_THREADS + " threads"));
+            host.awaitTermination();
+        } catch (IOException e) {
+            System.err.println("Unable to start the session host: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
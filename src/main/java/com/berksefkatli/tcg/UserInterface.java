@@ -1,6 +1,10 @@
 package com.berksefkatli.tcg;
 
+import com.berksefkatli.tcg.event.CompositeGameListener;
+import com.berksefkatli.tcg.event.IncrementalConsoleGameListener;
 import com.berksefkatli.tcg.exception.TcgException;
+import com.berksefkatli.tcg.flight.FlightRecording;
+import com.berksefkatli.tcg.metrics.MetricsGameListener;
 import com.berksefkatli.tcg.model.Card;
 import com.berksefkatli.tcg.model.Config;
 import com.berksefkatli.tcg.model.Player;
@@ -19,24 +23,34 @@ public class UserInterface {
     private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String INTEGER_PROMPT = "Please enter an integer: ";
     public static final String POSITIVE_INTEGER_PROMPT = "Please enter a positive integer: ";
+    public static final String SAVE_FAILED_MESSAGE = "Unable to save config to disk, your customizations might get lost on exit.";
 
     private UserInterface() {
     }
 
     public static void mainMenu(String configPath, InputStream in, PrintStream out, PrintStream err) {
+        mainMenu(getConfigFromFile(configPath, out, err), new ConfigStore(configPath), in, out, err);
+    }
+
+    // Without a store customizations only last until the menu is quit, e.g. for remote sessions that must not
+    // rewrite the server's config file.
+    public static void mainMenu(Config config, ConfigStore configStore, InputStream in, PrintStream out, PrintStream err) {
         Scanner scanner = new Scanner(in);
-        Config config = getConfigFromFile(configPath, out, err);
         while (true) {
             printMainMenu(out);
-            String menuChoice = scanner.nextLine();
+            String menuChoice = nextLine(scanner, out);
             switch (menuChoice) {
                 case "1":
-                    gameplay(scanner, err, new Game(out, config));
+                    try (MetricsGameListener metrics = new MetricsGameListener()) {
+                        gameplay(scanner, err, new Game(FlightRecording.wrap(
+                                new CompositeGameListener(new IncrementalConsoleGameListener(out), metrics)), config));
+                    }
                     break;
                 case "2":
-                    customizeConfigMenu(configPath, scanner, out, err, config);
+                    customizeConfigMenu(configStore, scanner, out, err, config);
                     break;
                 case "3":
+                    closeConfigStore(configStore, err);
                     return;
                 default:
                     err.println("Please enter a valid option.");
@@ -44,7 +58,7 @@ public class UserInterface {
         }
     }
 
-    private static Config getConfigFromFile(String configPath, PrintStream out, PrintStream err) {
+    public static Config getConfigFromFile(String configPath, PrintStream out, PrintStream err) {
         Config config = new Config();
         try {
             config = objectMapper.readValue(new File(configPath), Config.class);
@@ -67,14 +81,24 @@ public class UserInterface {
                 "3) Quit");
     }
 
+    // Output is only guaranteed to reach the user once they are asked for input, so a batching stream flushes here.
+    private static String nextLine(Scanner scanner, PrintStream out) {
+        out.flush();
+        return scanner.nextLine();
+    }
+
+    // The game flushes its own output after every command, only the errors are left to flush.
     private static void gameplay(Scanner scanner, PrintStream err, Game game) {
         while (game.isGameLive()) {
-            String choice = scanner.nextLine();
+            String choice = nextLine(scanner, err);
             try {
                 switch (choice) {
                     case "end":
                         game.endTurn();
                         break;
+                    case "refresh":
+                        game.refresh();
+                        break;
                     case "quit":
                         return;
                     default:
@@ -89,10 +113,10 @@ public class UserInterface {
         }
     }
 
-    private static void customizeConfigMenu(String configPath, Scanner scanner, PrintStream out, PrintStream err, Config config) {
+    private static void customizeConfigMenu(ConfigStore configStore, Scanner scanner, PrintStream out, PrintStream err, Config config) {
         while (true) {
             printCustomConfigMenu(out, config);
-            String menuChoice = scanner.nextLine();
+            String menuChoice = nextLine(scanner, out);
             try {
                 switch (menuChoice) {
                     case "1":
@@ -123,24 +147,51 @@ public class UserInterface {
                         config = new Config();
                         break;
                     case "10":
+                        saveConfig(configStore, err);
                         return;
                     default:
                         err.println("Please enter a valid option.");
+                        continue;
+                }
+                // Written in the background once the user stops changing settings, or when leaving this menu.
+                if (configStore != null) {
+                    configStore.markDirty(config);
                 }
-                objectMapper.writeValue(new File(configPath), config);
             } catch (NumberFormatException e) {
                 err.println(INTEGER_PROMPT);
             } catch (TcgException e) {
                 err.println(e.getMessage());
             } catch (IOException e) {
-                err.println("Unable to save config to disk, your customizations might get lost on exit.");
+                err.println(SAVE_FAILED_MESSAGE);
             }
         }
     }
 
+    private static void saveConfig(ConfigStore configStore, PrintStream err) {
+        if (configStore == null) {
+            return;
+        }
+        try {
+            configStore.flush();
+        } catch (IOException e) {
+            err.println(SAVE_FAILED_MESSAGE);
+        }
+    }
+
+    private static void closeConfigStore(ConfigStore configStore, PrintStream err) {
+        if (configStore == null) {
+            return;
+        }
+        try {
+            configStore.close();
+        } catch (IOException e) {
+            err.println(SAVE_FAILED_MESSAGE);
+        }
+    }
+
     private static void setPlayers(Scanner scanner, PrintStream out, Config config) {
         out.println("Please enter comma separated player names: ");
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         String[] playerNames = input.split(",");
         Set<Player> players = new HashSet<>();
         for (String playerName : playerNames) {
@@ -151,7 +202,7 @@ public class UserInterface {
 
     private static void setDeck(Scanner scanner, PrintStream out, Config config) {
         out.println("Please enter comma separated integers, each representing a card's cost: ");
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         String[] cardCosts = input.split(",");
         List<Card> deck = new ArrayList<>();
         for (String cardCost : cardCosts) {
@@ -163,37 +214,37 @@ public class UserInterface {
 
     private static void setInitialHealth(Scanner scanner, PrintStream out, Config config) {
         out.println(POSITIVE_INTEGER_PROMPT);
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setInitialHealth(Integer.parseInt(input));
     }
 
     private static void setInitialManaCapacity(Scanner scanner, PrintStream out, Config config) {
         out.println(INTEGER_PROMPT);
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setInitialManaCapacity(Integer.parseInt(input));
     }
 
     private static void setInitialHandSize(Scanner scanner, PrintStream out, Config config) {
         out.println("Please enter an integer that is less than the deck size: ");
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setInitialHandSize(Integer.parseInt(input));
     }
 
     private static void setMaxManaCapacity(Scanner scanner, PrintStream out, Config config) {
         out.println(POSITIVE_INTEGER_PROMPT);
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setMaxManaCapacity(Integer.parseInt(input));
     }
 
     private static void setMaxHandSize(Scanner scanner, PrintStream out, Config config) {
         out.println(POSITIVE_INTEGER_PROMPT);
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setMaxHandSize(Integer.parseInt(input));
     }
 
     private static void setBleedingDamageAmount(Scanner scanner, PrintStream out, Config config) {
         out.println(INTEGER_PROMPT);
-        String input = scanner.nextLine();
+        String input = nextLine(scanner, out);
         config.setBleedingDamageAmount(Integer.parseInt(input));
     }
 
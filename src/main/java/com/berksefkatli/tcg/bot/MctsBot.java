@@ -0,0 +1,212 @@
+package com.berksefkatli.tcg.bot;
+
+import com.berksefkatli.tcg.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+// Monte Carlo tree search over determinized copies of a game. Each worker reshuffles the hidden decks, searches
+// the resulting game with UCT for a while and starts over with a new shuffle. Root statistics of all workers are
+// summed and the most visited move is chosen. Only cards that cost between 0 and 63 are considered.
+public class MctsBot {
+
+    public static final int END_TURN = Long.SIZE;
+
+    private static final int ITERATIONS_PER_DETERMINIZATION = 512;
+    private static final int MAX_PLAYOUT_MOVES = 1_000;
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    private final int iterations;
+    private final long timeLimitNanos;
+    private final ForkJoinPool pool;
+    private final SplittableRandom random;
+    private long lastPlayouts;
+
+    // Searches until either the iteration count or the time limit is reached, 0 disables the respective limit.
+    public MctsBot(int iterations, long timeLimitMillis, ForkJoinPool pool, long seed) {
+        if (iterations <= 0 && timeLimitMillis <= 0) {
+            throw new IllegalArgumentException("Either an iteration or a time budget is required");
+        }
+        this.iterations = iterations;
+        this.timeLimitNanos = TimeUnit.MILLISECONDS.toNanos(timeLimitMillis);
+        this.pool = pool;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public void play(Game game) {
+        int move = chooseMove(game);
+        apply(game, move);
+    }
+
+    // Returns the cost of the card to play or END_TURN.
+    public int chooseMove(Game game) {
+        long deadline = timeLimitNanos > 0 ? System.nanoTime() + timeLimitNanos : Long.MAX_VALUE;
+        int parallelism = pool.getParallelism();
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            int workerIterations = iterations > 0 ? (iterations + parallelism - 1) / parallelism : Integer.MAX_VALUE;
+            Worker worker = new Worker(game, workerIterations, deadline, random.split());
+            tasks.add(pool.submit(worker::search));
+        }
+        long[] visits = new long[END_TURN + 1];
+        long playouts = 0;
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] workerVisits = task.join();
+            for (int move = 0; move < visits.length; move++) {
+                visits[move] += workerVisits[move];
+                playouts += workerVisits[move];
+            }
+        }
+        lastPlayouts = playouts;
+        int bestMove = END_TURN;
+        for (int move = 0; move < visits.length; move++) {
+            if (visits[move] > visits[bestMove]) {
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    // Number of playouts behind the last chosen move.
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    private static void apply(Game game, int move) {
+        if (move == END_TURN) {
+            game.endTurn();
+        } else {
+            game.tryPlayCard(move);
+        }
+    }
+
+    private static class Worker {
+
+        private final Game root;
+        private final int iterations;
+        private final long deadline;
+        private final SplittableRandom random;
+        private final int seatCount;
+
+        Worker(Game root, int iterations, long deadline, SplittableRandom random) {
+            this.root = root.headlessCopy();
+            this.iterations = iterations;
+            this.deadline = deadline;
+            this.random = random;
+            this.seatCount = root.getSeatCount();
+        }
+
+        long[] search() {
+            long[] visits = new long[END_TURN + 1];
+            int iteration = 0;
+            while (iteration < iterations && System.nanoTime() < deadline) {
+                Game determinization = root.headlessCopy();
+                determinization.reshuffleDecks(random.nextLong());
+                Node rootNode = new Node(null, END_TURN, -1, determinization.getActivePlayableCostsMask());
+                int batchEnd = Math.min(iterations, iteration + ITERATIONS_PER_DETERMINIZATION);
+                for (; iteration < batchEnd; iteration++) {
+                    iterate(determinization, rootNode);
+                }
+                for (Node child : rootNode.children) {
+                    visits[child.move] += child.visits;
+                }
+            }
+            return visits;
+        }
+
+        private void iterate(Game determinization, Node rootNode) {
+            Game game = determinization.headlessCopy();
+            Node node = rootNode;
+            while (!node.hasUntriedMoves() && !node.children.isEmpty() && game.isGameLive()) {
+                node = node.select();
+                apply(game, node.move);
+            }
+            if (game.isGameLive() && node.hasUntriedMoves()) {
+                int move = node.takeUntriedMove(random);
+                int seat = game.getActiveSeat();
+                apply(game, move);
+                Node child = new Node(node, move, seat, game.isGameLive() ? game.getActivePlayableCostsMask() : 0);
+                node.children.add(child);
+                node = child;
+            }
+            int moves = 0;
+            while (game.isGameLive() && moves++ < MAX_PLAYOUT_MOVES) {
+                apply(game, randomMove(game.getActivePlayableCostsMask()));
+            }
+            int winnerSeat = game.getWinnerSeat();
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                if (winnerSeat == -1) {
+                    node.wins += 1.0 / seatCount;
+                } else if (winnerSeat == node.seat) {
+                    node.wins++;
+                }
+            }
+        }
+
+        private int randomMove(long playableCostsMask) {
+            int choice = random.nextInt(Long.bitCount(playableCostsMask) + 1);
+            for (long mask = playableCostsMask; mask != 0; mask &= mask - 1) {
+                if (choice-- == 0) {
+                    return Long.numberOfTrailingZeros(mask);
+                }
+            }
+            return END_TURN;
+        }
+    }
+
+    private static class Node {
+
+        private final Node parent;
+        private final int move;
+        // Seat that made the move leading to this node, wins are counted for this seat.
+        private final int seat;
+        private final List<Node> children = new ArrayList<>();
+        private long untriedCosts;
+        private boolean untriedEndTurn = true;
+        private int visits;
+        private double wins;
+
+        Node(Node parent, int move, int seat, long playableCostsMask) {
+            this.parent = parent;
+            this.move = move;
+            this.seat = seat;
+            this.untriedCosts = playableCostsMask;
+        }
+
+        boolean hasUntriedMoves() {
+            return untriedEndTurn || untriedCosts != 0;
+        }
+
+        int takeUntriedMove(SplittableRandom random) {
+            int choice = random.nextInt(Long.bitCount(untriedCosts) + (untriedEndTurn ? 1 : 0));
+            for (long mask = untriedCosts; mask != 0; mask &= mask - 1) {
+                if (choice-- == 0) {
+                    int cost = Long.numberOfTrailingZeros(mask);
+                    untriedCosts &= ~(1L << cost);
+                    return cost;
+                }
+            }
+            untriedEndTurn = false;
+            return END_TURN;
+        }
+
+        Node select() {
+            double logVisits = Math.log(visits);
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                double score = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.berksefkatli.tcg.bot;
+
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+import com.berksefkatli.tcg.state.StateLayout;
+
+// Finds the cards to play this turn that deal the most damage with the mana at hand, a bounded knapsack over the
+// hand multiset. Ties go to the plan using fewer cards. Plans are cached in a fixed size table keyed by the packed
+// hand and the mana, see StateLayout.getCountShift for the packing of both hands and plans.
+public class TurnPlanner {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final StateLayout layout;
+    private final int maxManaCapacity;
+    private final int maxHandSize;
+    private final int manaBits;
+    // Two longs per slot, the key xor the plan followed by the plan. A slot torn by racing writers fails
+    // the key check, so the table can be shared between threads without locking.
+    private final long[] table;
+    private final int slotMask;
+
+    public TurnPlanner(Config config) {
+        this(config, DEFAULT_CAPACITY);
+    }
+
+    public TurnPlanner(Config config, int capacity) {
+        this.layout = new StateLayout(config);
+        this.maxManaCapacity = config.getMaxManaCapacity();
+        this.maxHandSize = Math.max(config.getMaxHandSize(), config.getInitialHandSize());
+        this.manaBits = Integer.SIZE - Integer.numberOfLeadingZeros(maxManaCapacity);
+        if (layout.getCountsBits() + manaBits >= Long.SIZE) {
+            throw new InvalidConfigurationException("Deck has too many different cards to plan turns for");
+        }
+        int slots = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new long[2 * slots];
+        this.slotMask = slots - 1;
+    }
+
+    public long packHand(ReadOnlyPlayer player) {
+        long packedHand = 0;
+        for (int i = 0; i < layout.getCostCount(); i++) {
+            packedHand |= (long) player.getHandCount(layout.getCost(i)) << layout.getCountShift(i);
+        }
+        return packedHand;
+    }
+
+    public long plan(ReadOnlyPlayer player) {
+        return plan(player.getMana(), packHand(player));
+    }
+
+    // Packed counts of the cards to play.
+    public long plan(int mana, long packedHand) {
+        int clampedMana = Math.max(0, Math.min(mana, maxManaCapacity));
+        long key = ((packedHand << manaBits) | clampedMana) + 1;
+        int slot = 2 * (int) (mix(key) & slotMask);
+        long plan = table[slot + 1];
+        if ((table[slot] ^ plan) == key) {
+            return plan;
+        }
+        plan = computePlan(clampedMana, packedHand);
+        table[slot] = key ^ plan;
+        table[slot + 1] = plan;
+        return plan;
+    }
+
+    public int getCount(long plan, int cost) {
+        int costIndex = layout.getCostIndex(cost);
+        return costIndex == -1 ? 0 : count(plan, costIndex);
+    }
+
+    // Most expensive card of the plan, or -1 for an empty plan.
+    public int getHighestCost(long plan) {
+        for (int i = layout.getCostCount() - 1; i >= 0; i--) {
+            if (count(plan, i) > 0) {
+                return layout.getCost(i);
+            }
+        }
+        return -1;
+    }
+
+    public int getDamage(long plan) {
+        int damage = 0;
+        for (int i = 0; i < layout.getCostCount(); i++) {
+            damage += count(plan, i) * layout.getCost(i);
+        }
+        return damage;
+    }
+
+    // Plans every hand that can be dealt under the config for every mana amount, returns the number of plans.
+    public int prewarm() {
+        return prewarm(0, 0, 0);
+    }
+
+    private int prewarm(int costIndex, long packedHand, int handSize) {
+        if (costIndex == layout.getCostCount()) {
+            for (int mana = 0; mana <= maxManaCapacity; mana++) {
+                plan(mana, packedHand);
+            }
+            return maxManaCapacity + 1;
+        }
+        int plans = 0;
+        int maxCount = Math.min(layout.getMaxCount(costIndex), maxHandSize - handSize);
+        for (int count = 0; count <= maxCount; count++) {
+            long hand = packedHand | (long) count << layout.getCountShift(costIndex);
+            plans += prewarm(costIndex + 1, hand, handSize + count);
+        }
+        return plans;
+    }
+
+    private int count(long packedCounts, int costIndex) {
+        long mask = (1L << layout.getCountBits(costIndex)) - 1;
+        return (int) ((packedCounts >>> layout.getCountShift(costIndex)) & mask);
+    }
+
+    private long computePlan(int mana, long packedHand) {
+        int costCount = layout.getCostCount();
+        // Damage first, fewer cards second.
+        int cardWeight = maxHandSize + 1;
+        int[][] best = new int[costCount + 1][mana + 1];
+        int[][] taken = new int[costCount + 1][mana + 1];
+        for (int i = 1; i <= costCount; i++) {
+            int cost = layout.getCost(i - 1);
+            int available = count(packedHand, i - 1);
+            for (int m = 0; m <= mana; m++) {
+                best[i][m] = best[i - 1][m];
+                for (int k = 1; k <= available && k * cost <= m; k++) {
+                    int score = best[i - 1][m - k * cost] + k * cost * cardWeight - k;
+                    if (score > best[i][m]) {
+                        best[i][m] = score;
+                        taken[i][m] = k;
+                    }
+                }
+            }
+        }
+        long plan = 0;
+        for (int i = costCount, m = mana; i > 0; i--) {
+            plan |= (long) taken[i][m] << layout.getCountShift(i - 1);
+            m -= taken[i][m] * layout.getCost(i - 1);
+        }
+        return plan;
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        key = (key ^ (key >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return key ^ (key >>> 33);
+    }
+}
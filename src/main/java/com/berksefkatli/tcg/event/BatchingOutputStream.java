@@ -0,0 +1,202 @@
+package com.berksefkatli.tcg.event;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// Collects everything written between two flushes into a reusable buffer and hands it to the target in one write
+// and one flush. Wrap it in a PrintStream without auto flush, the console listener flushes after every command.
+// In asynchronous mode a writer task drains the batches, so a slow terminal or socket only holds up the game
+// once every buffer is waiting to be written, and a flush gives up once the writer has not freed one for a while.
+public class BatchingOutputStream extends OutputStream {
+
+    public static final long DEFAULT_FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    private static final int INITIAL_CAPACITY = 8192;
+    private static final Batch END = new Batch();
+
+    private final OutputStream target;
+    private final BlockingQueue<Batch> freeBatches;
+    private final BlockingQueue<Batch> filledBatches;
+    private final CountDownLatch writerStopped;
+    private final long flushTimeoutMillis;
+    private volatile IOException writeFailure;
+    private Batch current = new Batch();
+
+    public BatchingOutputStream(OutputStream target) {
+        this.target = target;
+        this.freeBatches = null;
+        this.filledBatches = null;
+        this.writerStopped = null;
+        this.flushTimeoutMillis = 0;
+    }
+
+    public BatchingOutputStream(OutputStream target, int asyncBuffers) {
+        this(target, asyncBuffers, task -> {
+            Thread writer = new Thread(task, "tcg-output-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }, DEFAULT_FLUSH_TIMEOUT_MILLIS);
+    }
+
+    // The writer runs as one long task on the executor until the stream is closed.
+    public BatchingOutputStream(OutputStream target, int asyncBuffers, Executor writerExecutor,
+                                long flushTimeoutMillis) {
+        if (asyncBuffers < 1) {
+            throw new IllegalArgumentException("There cannot be less than 1 buffer for the writer thread");
+        }
+        this.target = target;
+        this.freeBatches = new ArrayBlockingQueue<>(asyncBuffers);
+        this.filledBatches = new ArrayBlockingQueue<>(asyncBuffers + 1);
+        for (int i = 1; i < asyncBuffers; i++) {
+            freeBatches.add(new Batch());
+        }
+        this.writerStopped = new CountDownLatch(1);
+        this.flushTimeoutMillis = flushTimeoutMillis;
+        writerExecutor.execute(this::drainBatches);
+    }
+
+    public boolean isAsync() {
+        return writerStopped != null;
+    }
+
+    @Override
+    public void write(int b) {
+        current.append(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        current.append(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        throwWriteFailure();
+        if (current.size == 0) {
+            return;
+        }
+        if (!isAsync()) {
+            current.writeTo(target);
+            return;
+        }
+        // There is always room, every batch is either free, filled or current.
+        filledBatches.add(current);
+        Batch free = awaitFreeBatch();
+        if (free == null) {
+            // The queued batch may still be written, writes from now on go to a batch that never will.
+            current = new Batch();
+            IOException failure = new IOException("Output writer stopped or did not keep up for " +
+                    flushTimeoutMillis + " ms");
+            writeFailure = failure;
+            throw failure;
+        }
+        current = free;
+        throwWriteFailure();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (isAsync()) {
+                // The writer stops once the queued batches are written, closing the target unblocks it otherwise.
+                filledBatches.add(END);
+                awaitWriterStopped();
+            }
+            target.close();
+        }
+        throwWriteFailure();
+    }
+
+    // Null when the writer neither freed a batch in time nor is running any more.
+    private Batch awaitFreeBatch() throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushTimeoutMillis);
+        try {
+            Batch batch;
+            while ((batch = freeBatches.poll(10, TimeUnit.MILLISECONDS)) == null) {
+                if (writerStopped.getCount() == 0 || System.nanoTime() - deadline > 0) {
+                    return null;
+                }
+            }
+            return batch;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the output writer");
+        }
+    }
+
+    private void awaitWriterStopped() {
+        try {
+            writerStopped.await(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainBatches() {
+        try {
+            Batch batch;
+            while ((batch = filledBatches.take()) != END) {
+                if (writeFailure == null) {
+                    try {
+                        batch.writeTo(target);
+                    } catch (IOException e) {
+                        writeFailure = e;
+                    }
+                }
+                batch.size = 0;
+                freeBatches.put(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writerStopped.countDown();
+        }
+    }
+
+    // Output written after a failure is dropped rather than piling up.
+    private void throwWriteFailure() throws IOException {
+        IOException failure = writeFailure;
+        if (failure != null) {
+            current.size = 0;
+            throw failure;
+        }
+    }
+
+    private static class Batch {
+
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        void append(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void append(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        void writeTo(OutputStream target) throws IOException {
+            target.write(bytes, 0, size);
+            target.flush();
+            size = 0;
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+import java.util.List;
+
+public class CompositeGameListener implements GameListener {
+
+    private final GameListener[] listeners;
+
+    public CompositeGameListener(GameListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        for (GameListener listener : listeners) {
+            listener.onGameStarted(template, seed);
+        }
+    }
+
+    @Override
+    public void onTurnStarted(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onTurnStarted(player);
+        }
+    }
+
+    @Override
+    public void onCardPlayed(Player player, int cost) {
+        for (GameListener listener : listeners) {
+            listener.onCardPlayed(player, cost);
+        }
+    }
+
+    @Override
+    public void onDamageDealt(Player player, int damage) {
+        for (GameListener listener : listeners) {
+            listener.onDamageDealt(player, damage);
+        }
+    }
+
+    @Override
+    public void onCardDrawn(Player player, int cost) {
+        for (GameListener listener : listeners) {
+            listener.onCardDrawn(player, cost);
+        }
+    }
+
+    @Override
+    public void onPlayerOverloaded(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onPlayerOverloaded(player);
+        }
+    }
+
+    @Override
+    public void onPlayerBled(Player player, int damage) {
+        for (GameListener listener : listeners) {
+            listener.onPlayerBled(player, damage);
+        }
+    }
+
+    @Override
+    public void onPlayerEliminated(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onPlayerEliminated(player);
+        }
+    }
+
+    @Override
+    public void onTurnSkipped(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onTurnSkipped(player);
+        }
+    }
+
+    @Override
+    public void onTurnEnded(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onTurnEnded(player);
+        }
+    }
+
+    @Override
+    public void onAwaitingPlay(List<Player> players, Player activePlayer) {
+        for (GameListener listener : listeners) {
+            listener.onAwaitingPlay(players, activePlayer);
+        }
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+        for (GameListener listener : listeners) {
+            listener.onGameWon(player);
+        }
+    }
+
+    @Override
+    public void onRefreshRequested(List<Player> players, Player activePlayer) {
+        for (GameListener listener : listeners) {
+            listener.onRefreshRequested(players, activePlayer);
+        }
+    }
+
+    @Override
+    public void onCommandCompleted() {
+        for (GameListener listener : listeners) {
+            listener.onCommandCompleted();
+        }
+    }
+}
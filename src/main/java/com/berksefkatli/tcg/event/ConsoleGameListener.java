@@ -0,0 +1,90 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Player;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ConsoleGameListener implements GameListener {
+
+    protected static final String SEPARATOR = "===============================================================";
+
+    protected final PrintStream out;
+
+    public ConsoleGameListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onCardPlayed(Player player, int cost) {
+        out.println(player.getName() + " played a card with " + cost + " cost");
+    }
+
+    @Override
+    public void onDamageDealt(Player player, int damage) {
+        out.println(player.getName() + " took " + damage + " damage!");
+    }
+
+    @Override
+    public void onPlayerOverloaded(Player player) {
+        out.println(player.getName() + " is overloaded!");
+    }
+
+    @Override
+    public void onPlayerBled(Player player, int damage) {
+        out.println(player.getName() + " is bleeding out!");
+    }
+
+    @Override
+    public void onPlayerEliminated(Player player) {
+        out.println(player.getName() + " has lost!");
+    }
+
+    @Override
+    public void onTurnSkipped(Player player) {
+        out.println("No playable cards exist. Auto skipping " + player.getName() + "'s turn.");
+    }
+
+    @Override
+    public void onTurnEnded(Player player) {
+        out.println(player.getName() + "'s turn ended");
+    }
+
+    @Override
+    public void onAwaitingPlay(List<Player> players, Player activePlayer) {
+        printPlayers(players);
+        printActivePlayer(activePlayer);
+    }
+
+    @Override
+    public void onRefreshRequested(List<Player> players, Player activePlayer) {
+        onAwaitingPlay(players, activePlayer);
+    }
+
+    protected void printPlayers(List<Player> players) {
+        out.println(SEPARATOR);
+        out.println("Players: ");
+        players.forEach(player -> out.println(player.toString()));
+        out.println(SEPARATOR);
+    }
+
+    protected void printActivePlayer(Player activePlayer) {
+        out.println("Active player: " + activePlayer.getName());
+        out.println("Active player's hand: " + activePlayer.getHand()
+                .stream().map(Card::getCost).collect(Collectors.toList()));
+        out.println("Choose a card to play by entering its cost, end your turn by entering 'end', " +
+                "see every player again by entering 'refresh' or quit the game by entering 'quit': ");
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+        out.println(player.getName() + " has won!");
+    }
+
+    @Override
+    public void onCommandCompleted() {
+        out.flush();
+    }
+}
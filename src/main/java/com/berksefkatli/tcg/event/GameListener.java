@@ -0,0 +1,58 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+import java.util.List;
+
+public interface GameListener {
+
+    // Headless listener, lets simulations run without building any output.
+    GameListener NO_OP = new GameListener() {
+    };
+
+    default void onGameStarted(GameTemplate template, long seed) {
+    }
+
+    default void onTurnStarted(Player player) {
+    }
+
+    default void onCardPlayed(Player player, int cost) {
+    }
+
+    default void onDamageDealt(Player player, int damage) {
+    }
+
+    // Turn draws only, the initial hands follow from the seed. An overloaded draw is reported before the overload.
+    default void onCardDrawn(Player player, int cost) {
+    }
+
+    default void onPlayerOverloaded(Player player) {
+    }
+
+    default void onPlayerBled(Player player, int damage) {
+    }
+
+    default void onPlayerEliminated(Player player) {
+    }
+
+    default void onTurnSkipped(Player player) {
+    }
+
+    default void onTurnEnded(Player player) {
+    }
+
+    default void onAwaitingPlay(List<Player> players, Player activePlayer) {
+    }
+
+    default void onGameWon(Player player) {
+    }
+
+    // A viewer asked to see the whole game state again.
+    default void onRefreshRequested(List<Player> players, Player activePlayer) {
+    }
+
+    // Called once the game is set up and after every playCard or endTurn, including all the turns it auto skipped.
+    default void onCommandCompleted() {
+    }
+}
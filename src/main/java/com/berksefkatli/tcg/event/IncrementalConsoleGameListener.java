@@ -0,0 +1,116 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.Player;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+// Prints the full game state once, then only what changed since this viewer last saw it, so the output of a turn
+// stays small however many players there are. A refresh prints everything again.
+public class IncrementalConsoleGameListener extends ConsoleGameListener {
+
+    private static final int NOT_SEEN = Integer.MIN_VALUE;
+
+    // What the viewer last saw for every seat, seats of eliminated players are cleared once reported.
+    private String[] names = new String[0];
+    private int[] health = new int[0];
+    private int[] mana = new int[0];
+    private int[] manaCapacity = new int[0];
+    private int[] handSize = new int[0];
+    private boolean rendered;
+    private final StringBuilder line = new StringBuilder();
+
+    public IncrementalConsoleGameListener(PrintStream out) {
+        super(out);
+    }
+
+    @Override
+    public void onAwaitingPlay(List<Player> players, Player activePlayer) {
+        if (!rendered) {
+            onRefreshRequested(players, activePlayer);
+            return;
+        }
+        out.println(SEPARATOR);
+        out.println("Changes: ");
+        if (!printChanges(players)) {
+            out.println("None");
+        }
+        out.println(SEPARATOR);
+        printActivePlayer(activePlayer);
+    }
+
+    @Override
+    public void onRefreshRequested(List<Player> players, Player activePlayer) {
+        printPlayers(players);
+        printActivePlayer(activePlayer);
+        Arrays.fill(health, NOT_SEEN);
+        players.forEach(this::remember);
+        rendered = true;
+    }
+
+    private boolean printChanges(List<Player> players) {
+        boolean[] present = new boolean[health.length];
+        boolean changed = false;
+        for (Player player : players) {
+            int seat = player.getSeat();
+            if (seat < health.length) {
+                present[seat] = true;
+            }
+            if (seat >= health.length || health[seat] == NOT_SEEN) {
+                out.println(player.toString());
+                changed = true;
+            } else if (printChanges(player)) {
+                changed = true;
+            }
+            remember(player);
+        }
+        for (int seat = 0; seat < present.length; seat++) {
+            if (!present[seat] && health[seat] != NOT_SEEN) {
+                out.println("Eliminated: " + names[seat]);
+                health[seat] = NOT_SEEN;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean printChanges(Player player) {
+        int seat = player.getSeat();
+        line.setLength(0);
+        appendChange("Health", health[seat], player.getHealth());
+        appendChange("Mana", mana[seat], player.getMana());
+        appendChange("Mana capacity", manaCapacity[seat], player.getManaCapacity());
+        appendChange("Cards in hand", handSize[seat], player.getHandSize());
+        if (line.length() == 0) {
+            return false;
+        }
+        out.println("Name: " + player.getName() + line);
+        return true;
+    }
+
+    private void appendChange(String field, int oldValue, int newValue) {
+        if (oldValue != newValue) {
+            line.append(", ").append(field).append(": ").append(oldValue).append(" -> ").append(newValue);
+        }
+    }
+
+    private void remember(Player player) {
+        int seat = player.getSeat();
+        if (seat >= health.length) {
+            int length = Math.max(seat + 1, health.length * 2);
+            int oldLength = health.length;
+            health = Arrays.copyOf(health, length);
+            Arrays.fill(health, oldLength, length, NOT_SEEN);
+            names = Arrays.copyOf(names, length);
+            mana = Arrays.copyOf(mana, length);
+            manaCapacity = Arrays.copyOf(manaCapacity, length);
+            handSize = Arrays.copyOf(handSize, length);
+        }
+        names[seat] = player.getName();
+        health[seat] = player.getHealth();
+        mana[seat] = player.getMana();
+        manaCapacity[seat] = player.getManaCapacity();
+        handSize[seat] = player.getHandSize();
+    }
+}
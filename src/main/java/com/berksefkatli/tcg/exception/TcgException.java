@@ -1,8 +1,10 @@
 package com.berksefkatli.tcg.exception;
 
 public class TcgException extends RuntimeException {
+    // Stackless: these report broken game rules, the message says everything and filling a stack trace
+    // on every rejected play would cost more than the play itself.
     public TcgException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public static class CannotPlayCardNotInHandException extends TcgException {
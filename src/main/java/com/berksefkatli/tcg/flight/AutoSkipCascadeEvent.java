@@ -0,0 +1,23 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.AutoSkipCascade")
+@Label("Auto Skip Cascade")
+@Description("Consecutive turns skipped because nobody could play")
+@Category("Trading Card Game")
+class AutoSkipCascadeEvent extends Event {
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String playerName;
+
+    @Label("Skipped Turns")
+    int skippedTurns;
+}
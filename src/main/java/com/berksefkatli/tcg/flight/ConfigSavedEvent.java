@@ -0,0 +1,22 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.ConfigSaved")
+@Label("Config Saved")
+@Description("The config file was written and moved into place")
+@Category("Trading Card Game")
+class ConfigSavedEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    int bytes;
+}
@@ -0,0 +1,20 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.EndTurn")
+@Label("End Turn")
+@Description("A turn end including the turns it auto skipped")
+@Category("Trading Card Game")
+class EndTurnEvent extends Event {
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String playerName;
+}
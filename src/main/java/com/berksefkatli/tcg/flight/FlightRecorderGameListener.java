@@ -0,0 +1,124 @@
+package com.berksefkatli.tcg.flight;
+
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+import jdk.jfr.EventType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Turns one game's callbacks into flight recorder events. Commands begin at their first callback and commit at
+// onCommandCompleted, so their durations cover everything the command set off. While no recording enables an
+// event type its callbacks read one flag and allocate nothing.
+class FlightRecorderGameListener implements GameListener {
+
+    private static final AtomicLong GAME_SEQUENCE = new AtomicLong();
+    private static final EventType GAME_CREATED = EventType.getEventType(GameCreatedEvent.class);
+    private static final EventType PLAY_CARD = EventType.getEventType(PlayCardEvent.class);
+    private static final EventType END_TURN = EventType.getEventType(EndTurnEvent.class);
+    private static final EventType AUTO_SKIP_CASCADE = EventType.getEventType(AutoSkipCascadeEvent.class);
+    private static final EventType PLAYER_ELIMINATED = EventType.getEventType(PlayerEliminatedEvent.class);
+
+    private final long gameId = GAME_SEQUENCE.incrementAndGet();
+    private GameCreatedEvent gameCreated;
+    private PlayCardEvent playCard;
+    private EndTurnEvent endTurn;
+    private AutoSkipCascadeEvent autoSkipCascade;
+
+    long getGameId() {
+        return gameId;
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        if (GAME_CREATED.isEnabled()) {
+            gameCreated = new GameCreatedEvent();
+            gameCreated.gameId = gameId;
+            gameCreated.players = template.getPlayerCount();
+            gameCreated.seed = seed;
+            gameCreated.begin();
+        }
+    }
+
+    @Override
+    public void onCardPlayed(Player player, int cost) {
+        if (PLAY_CARD.isEnabled()) {
+            playCard = new PlayCardEvent();
+            playCard.gameId = gameId;
+            playCard.playerName = player.getName();
+            playCard.cost = cost;
+            playCard.begin();
+        }
+    }
+
+    @Override
+    public void onTurnEnded(Player player) {
+        if (END_TURN.isEnabled()) {
+            endTurn = new EndTurnEvent();
+            endTurn.gameId = gameId;
+            endTurn.playerName = player.getName();
+            endTurn.begin();
+        }
+    }
+
+    @Override
+    public void onTurnSkipped(Player player) {
+        if (autoSkipCascade == null && AUTO_SKIP_CASCADE.isEnabled()) {
+            autoSkipCascade = new AutoSkipCascadeEvent();
+            autoSkipCascade.gameId = gameId;
+            autoSkipCascade.playerName = player.getName();
+            autoSkipCascade.begin();
+        }
+        if (autoSkipCascade != null) {
+            autoSkipCascade.skippedTurns++;
+        }
+    }
+
+    @Override
+    public void onPlayerEliminated(Player player) {
+        if (PLAYER_ELIMINATED.isEnabled()) {
+            PlayerEliminatedEvent playerEliminated = new PlayerEliminatedEvent();
+            playerEliminated.gameId = gameId;
+            playerEliminated.playerName = player.getName();
+            playerEliminated.commit();
+        }
+    }
+
+    @Override
+    public void onAwaitingPlay(List<Player> players, Player activePlayer) {
+        commitAutoSkipCascade();
+        if (gameCreated != null && gameCreated.playerName == null) {
+            gameCreated.playerName = activePlayer.getName();
+        }
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+        commitAutoSkipCascade();
+    }
+
+    @Override
+    public void onCommandCompleted() {
+        commitAutoSkipCascade();
+        if (playCard != null) {
+            playCard.commit();
+            playCard = null;
+        }
+        if (endTurn != null) {
+            endTurn.commit();
+            endTurn = null;
+        }
+        if (gameCreated != null) {
+            gameCreated.commit();
+            gameCreated = null;
+        }
+    }
+
+    private void commitAutoSkipCascade() {
+        if (autoSkipCascade != null) {
+            autoSkipCascade.commit();
+            autoSkipCascade = null;
+        }
+    }
+}
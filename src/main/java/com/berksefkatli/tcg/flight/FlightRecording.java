@@ -0,0 +1,94 @@
+package com.berksefkatli.tcg.flight;
+
+import com.berksefkatli.tcg.event.CompositeGameListener;
+import com.berksefkatli.tcg.event.GameListener;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+// Entry point to the game's flight recorder events. Java 8 runtimes without JFR never load the event classes,
+// every method here falls back to doing nothing.
+public final class FlightRecording {
+
+    // Enables every game event without thresholds, bundled in the jar next to this class.
+    public static final String PROFILE = "tcg.jfc";
+
+    private static final boolean AVAILABLE = isFlightRecorderPresent();
+
+    private FlightRecording() {
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        return FlightRecorder.isAvailable();
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    // Adds the game's flight recorder events to a listener, they are recorded whenever a recording enables them.
+    public static GameListener wrap(GameListener listener) {
+        return AVAILABLE ? new CompositeGameListener(listener, new FlightRecorderGameListener()) : listener;
+    }
+
+    // Returns a token for endConfigSave, null when config saves are not being recorded.
+    public static Object beginConfigSave() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ConfigSavedEvent event = new ConfigSavedEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void endConfigSave(Object token, Path path, int bytes) {
+        if (token == null) {
+            return;
+        }
+        ConfigSavedEvent event = (ConfigSavedEvent) token;
+        event.path = path.toString();
+        event.bytes = bytes;
+        event.commit();
+    }
+
+    // Records the JDK's default events plus the game profile into the destination, written when the JVM exits.
+    public static boolean startRecording(Path destination) throws IOException {
+        if (!AVAILABLE) {
+            return false;
+        }
+        Map<String, String> settings = new HashMap<>();
+        try (InputStream in = FlightRecording.class.getResourceAsStream(PROFILE)) {
+            if (in == null) {
+                throw new IOException("Missing recording profile " + PROFILE);
+            }
+            settings.putAll(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8)).getSettings());
+        } catch (ParseException e) {
+            throw new IOException("Invalid recording profile " + PROFILE, e);
+        }
+        Recording recording = new Recording(settings);
+        recording.setName("tcg");
+        recording.setToDisk(true);
+        recording.setDumpOnExit(true);
+        recording.setDestination(destination);
+        recording.start();
+        return true;
+    }
+}
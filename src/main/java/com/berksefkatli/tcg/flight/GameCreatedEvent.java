@@ -0,0 +1,26 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.GameCreated")
+@Label("Game Created")
+@Description("Dealing and the first turns up to the first player who can play")
+@Category("Trading Card Game")
+class GameCreatedEvent extends Event {
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Players")
+    int players;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("First Player")
+    String playerName;
+}
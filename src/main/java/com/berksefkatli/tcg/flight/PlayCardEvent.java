@@ -0,0 +1,23 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.PlayCard")
+@Label("Play Card")
+@Description("A card play including the damage and the turns it auto skipped")
+@Category("Trading Card Game")
+class PlayCardEvent extends Event {
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String playerName;
+
+    @Label("Cost")
+    int cost;
+}
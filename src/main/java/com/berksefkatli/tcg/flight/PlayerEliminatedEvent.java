@@ -0,0 +1,20 @@
+package com.berksefkatli.tcg.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.berksefkatli.tcg.PlayerEliminated")
+@Label("Player Eliminated")
+@Description("A player lost all health")
+@Category("Trading Card Game")
+class PlayerEliminatedEvent extends Event {
+
+    @Label("Game Id")
+    long gameId;
+
+    @Label("Player")
+    String playerName;
+}
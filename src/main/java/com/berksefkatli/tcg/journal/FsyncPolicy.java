@@ -0,0 +1,42 @@
+package com.berksefkatli.tcg.journal;
+
+// When the journal forces its mapped segment to disk. Anything not forced yet is still written back by the OS
+// eventually, it is only at risk if the machine itself goes down.
+public final class FsyncPolicy {
+
+    private final int everyRecords;
+    private final long everyMillis;
+
+    private FsyncPolicy(int everyRecords, long everyMillis) {
+        this.everyRecords = everyRecords;
+        this.everyMillis = everyMillis;
+    }
+
+    // Segments are forced when they are full and when the journal is closed.
+    public static FsyncPolicy onRollover() {
+        return new FsyncPolicy(0, 0);
+    }
+
+    public static FsyncPolicy everyRecords(int records) {
+        if (records < 1) {
+            throw new IllegalArgumentException("Records between flushes cannot be less than 1");
+        }
+        return new FsyncPolicy(records, 0);
+    }
+
+    // Flushes from a background thread, so appending never waits for the disk.
+    public static FsyncPolicy everyMillis(long millis) {
+        if (millis < 1) {
+            throw new IllegalArgumentException("Milliseconds between flushes cannot be less than 1");
+        }
+        return new FsyncPolicy(0, millis);
+    }
+
+    int getEveryRecords() {
+        return everyRecords;
+    }
+
+    long getEveryMillis() {
+        return everyMillis;
+    }
+}
@@ -0,0 +1,212 @@
+package com.berksefkatli.tcg.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only binary log of games, written to pre-allocated memory-mapped segment files. Every record is a type
+// byte and the game id followed by its payload and a checksum of them, so many games can share one journal.
+// Appending only copies bytes into the mapping, the OS writes them back and the fsync policy decides when to wait
+// for the disk. Pages can reach the disk in any order, the checksum lets the reader tell a torn record from a
+// written one.
+// A journal is written by one thread at a time, e.g. the thread running its games.
+public class Journal implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    // Zero marks the unused tail of a segment, the mapping is zero filled.
+    static final byte END_OF_SEGMENT = 0;
+    public static final byte GAME_STARTED = 1;
+    public static final byte CARD_PLAYED = 2;
+    public static final byte TURN_ENDED = 3;
+    public static final byte CARD_DRAWN = 4;
+    public static final byte PLAYER_OVERLOADED = 5;
+
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    static final int CHECKSUM_SIZE = Integer.BYTES;
+    // Other files in the directory, even with the suffix, are not segments.
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{1,9}" + Pattern.quote(SEGMENT_SUFFIX));
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService flusher;
+    private final CRC32 checksum = new CRC32();
+    private volatile MappedByteBuffer segment;
+    // Shares the segment's bytes, the checksum reads the record through it without moving the segment's position.
+    private ByteBuffer checksumView;
+    private int recordStart;
+    private int segmentIndex;
+    private int unflushedRecords;
+
+    public Journal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, FsyncPolicy.onRollover());
+    }
+
+    public Journal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy) throws IOException {
+        if (segmentSize < HEADER_SIZE + Long.BYTES * 2 + CHECKSUM_SIZE) {
+            throw new IllegalArgumentException("Segments must be able to hold a game start record");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        // Earlier segments are never appended to, a reopened journal starts a new one.
+        this.segmentIndex = lastSegmentIndex(directory) + 1;
+        this.segment = mapSegment(segmentIndex);
+        this.checksumView = segment.duplicate();
+        if (fsyncPolicy.getEveryMillis() > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "tcg-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, fsyncPolicy.getEveryMillis(),
+                    fsyncPolicy.getEveryMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public void gameStarted(int gameId, long seed, long configFingerprint) {
+        MappedByteBuffer buffer = startRecord(GAME_STARTED, gameId, Long.BYTES * 2);
+        buffer.putLong(seed);
+        buffer.putLong(configFingerprint);
+        endRecord();
+    }
+
+    public void cardPlayed(int gameId, int cost) {
+        startRecord(CARD_PLAYED, gameId, Integer.BYTES).putInt(cost);
+        endRecord();
+    }
+
+    public void turnEnded(int gameId) {
+        startRecord(TURN_ENDED, gameId, 0);
+        endRecord();
+    }
+
+    public void cardDrawn(int gameId, int cost) {
+        startRecord(CARD_DRAWN, gameId, Integer.BYTES).putInt(cost);
+        endRecord();
+    }
+
+    public void playerOverloaded(int gameId) {
+        startRecord(PLAYER_OVERLOADED, gameId, 0);
+        endRecord();
+    }
+
+    public int getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    public void flush() {
+        segment.force();
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+    }
+
+    private MappedByteBuffer startRecord(byte type, int gameId, int payloadSize) {
+        MappedByteBuffer buffer = segment;
+        if (buffer.remaining() < HEADER_SIZE + payloadSize + CHECKSUM_SIZE) {
+            buffer = rollOver();
+        }
+        recordStart = buffer.position();
+        buffer.put(type);
+        buffer.putInt(gameId);
+        return buffer;
+    }
+
+    private void endRecord() {
+        MappedByteBuffer buffer = segment;
+        checksumView.limit(buffer.position()).position(recordStart);
+        buffer.putInt(checksum(checksum, checksumView));
+        int everyRecords = fsyncPolicy.getEveryRecords();
+        if (everyRecords > 0 && ++unflushedRecords == everyRecords) {
+            unflushedRecords = 0;
+            flush();
+        }
+    }
+
+    private MappedByteBuffer rollOver() {
+        MappedByteBuffer full = segment;
+        if (full.hasRemaining()) {
+            full.put(END_OF_SEGMENT);
+        }
+        full.force();
+        unflushedRecords = 0;
+        try {
+            segment = mapSegment(++segmentIndex);
+            checksumView = segment.duplicate();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal segment " + segmentIndex, e);
+        }
+        return segment;
+    }
+
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, index), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping past the end grows the file to the full segment size up front.
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%08d", index) + SEGMENT_SUFFIX);
+    }
+
+    static boolean isSegment(Path path) {
+        return SEGMENT_NAME.matcher(path.getFileName().toString()).matches();
+    }
+
+    static int segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static int checksum(CRC32 checksum, ByteBuffer record) {
+        checksum.reset();
+        checksum.update(record);
+        return (int) checksum.getValue();
+    }
+
+    // Bytes following the header of a record, or -1 for an unknown type.
+    static int payloadSize(byte type) {
+        switch (type) {
+            case GAME_STARTED:
+                return Long.BYTES * 2;
+            case CARD_PLAYED:
+            case CARD_DRAWN:
+                return Integer.BYTES;
+            case TURN_ENDED:
+            case PLAYER_OVERLOADED:
+                return 0;
+            default:
+                return -1;
+        }
+    }
+
+    private static int lastSegmentIndex(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Journal::isSegment).mapToInt(Journal::segmentIndex).max().orElse(-1);
+        }
+    }
+}
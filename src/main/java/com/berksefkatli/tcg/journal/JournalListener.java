@@ -0,0 +1,42 @@
+package com.berksefkatli.tcg.journal;
+
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+// Records one game into a journal, combine it with other listeners through a CompositeGameListener.
+public class JournalListener implements GameListener {
+
+    private final Journal journal;
+    private final int gameId;
+
+    public JournalListener(Journal journal, int gameId) {
+        this.journal = journal;
+        this.gameId = gameId;
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        journal.gameStarted(gameId, seed, template.getFingerprint());
+    }
+
+    @Override
+    public void onCardPlayed(Player player, int cost) {
+        journal.cardPlayed(gameId, cost);
+    }
+
+    @Override
+    public void onTurnEnded(Player player) {
+        journal.turnEnded(gameId);
+    }
+
+    @Override
+    public void onCardDrawn(Player player, int cost) {
+        journal.cardDrawn(gameId, cost);
+    }
+
+    @Override
+    public void onPlayerOverloaded(Player player) {
+        journal.playerOverloaded(gameId);
+    }
+}
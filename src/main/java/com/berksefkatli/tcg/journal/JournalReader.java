@@ -0,0 +1,87 @@
+package com.berksefkatli.tcg.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public final class JournalReader {
+
+    private JournalReader() {
+    }
+
+    // Visits every record of every segment in the order they were written, returns the number of records.
+    public static long read(Path directory, JournalVisitor visitor) throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(Journal::isSegment)
+                    .sorted(Comparator.comparingInt(Journal::segmentIndex))
+                    .collect(Collectors.toList());
+        }
+        long records = 0;
+        for (Path segment : segments) {
+            records += readSegment(segment, visitor);
+        }
+        return records;
+    }
+
+    private static long readSegment(Path segment, JournalVisitor visitor) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer record = buffer.duplicate();
+        CRC32 checksum = new CRC32();
+        long records = 0;
+        while (buffer.hasRemaining()) {
+            int recordStart = buffer.position();
+            byte type = buffer.get();
+            if (type == Journal.END_OF_SEGMENT) {
+                break;
+            }
+            int payloadSize = Journal.payloadSize(type);
+            if (payloadSize < 0) {
+                throw new IOException("Unknown record type " + type + " in " + segment);
+            }
+            int recordEnd = recordStart + Journal.HEADER_SIZE + payloadSize;
+            if (recordEnd + Journal.CHECKSUM_SIZE > buffer.limit()) {
+                // Torn by a crash or a truncated copy, the records before it are still good.
+                break;
+            }
+            record.limit(recordEnd).position(recordStart);
+            if (Journal.checksum(checksum, record) != buffer.getInt(recordEnd)) {
+                // Only part of it reached the disk before a crash, nothing after it was written either.
+                break;
+            }
+            int gameId = buffer.getInt();
+            switch (type) {
+                case Journal.GAME_STARTED:
+                    visitor.onGameStarted(gameId, buffer.getLong(), buffer.getLong());
+                    break;
+                case Journal.CARD_PLAYED:
+                    visitor.onCardPlayed(gameId, buffer.getInt());
+                    break;
+                case Journal.TURN_ENDED:
+                    visitor.onTurnEnded(gameId);
+                    break;
+                case Journal.CARD_DRAWN:
+                    visitor.onCardDrawn(gameId, buffer.getInt());
+                    break;
+                case Journal.PLAYER_OVERLOADED:
+                    visitor.onPlayerOverloaded(gameId);
+                    break;
+            }
+            buffer.position(recordEnd + Journal.CHECKSUM_SIZE);
+            records++;
+        }
+        return records;
+    }
+}
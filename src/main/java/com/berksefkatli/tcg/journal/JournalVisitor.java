@@ -0,0 +1,19 @@
+package com.berksefkatli.tcg.journal;
+
+public interface JournalVisitor {
+
+    default void onGameStarted(int gameId, long seed, long configFingerprint) {
+    }
+
+    default void onCardPlayed(int gameId, int cost) {
+    }
+
+    default void onTurnEnded(int gameId) {
+    }
+
+    default void onCardDrawn(int gameId, int cost) {
+    }
+
+    default void onPlayerOverloaded(int gameId) {
+    }
+}
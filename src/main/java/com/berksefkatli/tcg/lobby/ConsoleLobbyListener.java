@@ -0,0 +1,42 @@
+package com.berksefkatli.tcg.lobby;
+
+import com.berksefkatli.tcg.model.GameTemplate;
+
+import java.io.PrintStream;
+
+// One line per card and per bleeding player, the per turn noise of start, skip and end is left out.
+public class ConsoleLobbyListener implements LobbyListener {
+
+    private final PrintStream out;
+    private GameTemplate template;
+
+    public ConsoleLobbyListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        this.template = template;
+        out.println(template.getPlayerCount() + " players joined the lobby");
+    }
+
+    @Override
+    public void onAreaDamage(int seat, int damage, int victims, int eliminated, int remaining) {
+        out.println(name(seat) + " dealt " + damage + " damage to " + victims + " players, " + eliminated +
+                " lost, " + remaining + " remaining");
+    }
+
+    @Override
+    public void onPlayerBled(int seat, int damage, boolean eliminated) {
+        out.println(name(seat) + (eliminated ? " bled out and has lost!" : " is bleeding out!"));
+    }
+
+    @Override
+    public void onGameWon(int seat) {
+        out.println(name(seat) + " has won!");
+    }
+
+    private String name(int seat) {
+        return template.getPlayerName(seat);
+    }
+}
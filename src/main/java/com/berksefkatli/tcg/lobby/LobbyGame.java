@@ -0,0 +1,229 @@
+package com.berksefkatli.tcg.lobby;
+
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.model.CardCounts;
+import com.berksefkatli.tcg.model.DrawPile;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.TurnOrder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Free for all for lobbies of thousands of players. Same rules and same use of the seed as Game, but health,
+// mana and mana capacity are kept in parallel arrays indexed by seat instead of in Player objects, so a card's
+// area damage is one pass over an int array the JIT can vectorise and one more pass to find the dead.
+public class LobbyGame {
+
+    private final GameTemplate template;
+    private final LobbyListener listener;
+    private final SplittableRandom random;
+    private final int[] health;
+    private final int[] mana;
+    private final int[] manaCapacity;
+    // All bits set while the seat is in the game and not attacking, damage is masked with it instead of branching.
+    private final int[] damageMask;
+    private final CardCounts[] hands;
+    private final DrawPile[] decks;
+    private final TurnOrder turnOrder;
+    private boolean gameStarted;
+    private boolean gameEnded;
+
+    public LobbyGame(LobbyListener listener, GameTemplate template) {
+        this(listener, template, ThreadLocalRandom.current().nextLong());
+    }
+
+    public LobbyGame(LobbyListener listener, GameTemplate template, long seed) {
+        this.template = template;
+        this.listener = listener;
+        this.random = new SplittableRandom(seed);
+        int seatCount = template.getPlayerCount();
+        this.health = new int[seatCount];
+        this.mana = new int[seatCount];
+        this.manaCapacity = new int[seatCount];
+        this.damageMask = new int[seatCount];
+        this.hands = new CardCounts[seatCount];
+        this.decks = new DrawPile[seatCount];
+        this.turnOrder = new TurnOrder(seatCount);
+        listener.onGameStarted(template, seed);
+        start();
+    }
+
+    private void start() {
+        for (int seat = 0; seat < health.length; seat++) {
+            health[seat] = template.getInitialHealth();
+            manaCapacity[seat] = template.getInitialManaCapacity();
+            damageMask[seat] = -1;
+            decks[seat] = new DrawPile(template.copyDeck());
+            decks[seat].shuffle(random);
+            hands[seat] = new CardCounts();
+            for (int i = 0; i < template.getInitialHandSize(); i++) {
+                hands[seat].add(decks[seat].draw());
+            }
+        }
+        turnOrder.setActiveSeat(random.nextInt(health.length));
+        gameStarted = true;
+        advanceToNextPlayer();
+    }
+
+    // A loop rather than recursion, a lobby full of players without playable cards can skip thousands of turns.
+    private void advanceToNextPlayer() {
+        while (true) {
+            int seat = turnOrder.advance();
+            listener.onTurnStarted(seat);
+            manaCapacity[seat] = Math.min(manaCapacity[seat] + 1, template.getMaxManaCapacity());
+            mana[seat] = manaCapacity[seat];
+            if (decks[seat].isEmpty()) {
+                health[seat] -= template.getBleedingDamageAmount();
+                boolean dead = health[seat] <= 0;
+                listener.onPlayerBled(seat, template.getBleedingDamageAmount(), dead);
+                if (dead) {
+                    eliminate(seat);
+                    if (isLastOneStanding()) {
+                        return;
+                    }
+                    continue;
+                }
+            } else {
+                drawFromDeck(seat);
+            }
+            if (hasPlayableCard(seat)) {
+                return;
+            }
+            listener.onTurnSkipped(seat);
+        }
+    }
+
+    private void drawFromDeck(int seat) {
+        int drawnCost = decks[seat].draw();
+        if (hands[seat].size() == template.getMaxHandSize()) {
+            listener.onPlayerOverloaded(seat);
+        } else {
+            hands[seat].add(drawnCost);
+        }
+    }
+
+    private boolean hasPlayableCard(int seat) {
+        return !hands[seat].isEmpty() && hands[seat].getMinCost() <= mana[seat];
+    }
+
+    public PlayResult tryPlayCard(int cost) {
+        if (!isGameLive()) {
+            return PlayResult.GAME_NOT_LIVE;
+        }
+        int seat = turnOrder.getActiveSeat();
+        if (!hands[seat].contains(cost)) {
+            return PlayResult.CARD_NOT_IN_HAND;
+        }
+        if (mana[seat] < cost) {
+            return PlayResult.NOT_ENOUGH_MANA;
+        }
+        listener.onCardPlayed(seat, cost);
+        mana[seat] -= cost;
+        hands[seat].remove(cost);
+        if (cost > 0) {
+            dealAreaDamage(seat, cost);
+        }
+        if (!isLastOneStanding() && !hasPlayableCard(seat)) {
+            listener.onTurnSkipped(seat);
+            advanceToNextPlayer();
+        }
+        return PlayResult.OK;
+    }
+
+    public PlayResult tryEndTurn() {
+        if (!isGameLive()) {
+            return PlayResult.GAME_NOT_LIVE;
+        }
+        listener.onTurnEnded(turnOrder.getActiveSeat());
+        advanceToNextPlayer();
+        return PlayResult.OK;
+    }
+
+    private void dealAreaDamage(int attacker, int damage) {
+        int victims = turnOrder.size() - 1;
+        int[] health = this.health;
+        int[] damageMask = this.damageMask;
+        damageMask[attacker] = 0;
+        for (int seat = 0; seat < health.length; seat++) {
+            health[seat] -= damage & damageMask[seat];
+        }
+        damageMask[attacker] = -1;
+        int eliminated = 0;
+        for (int seat = 0; seat < health.length; seat++) {
+            if (health[seat] <= 0 && damageMask[seat] != 0) {
+                eliminate(seat);
+                eliminated++;
+            }
+        }
+        listener.onAreaDamage(attacker, damage, victims, eliminated, turnOrder.size());
+    }
+
+    private void eliminate(int seat) {
+        damageMask[seat] = 0;
+        turnOrder.remove(seat);
+    }
+
+    private boolean isLastOneStanding() {
+        if (turnOrder.size() == 1) {
+            gameEnded = true;
+            listener.onGameWon(turnOrder.first());
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isGameLive() {
+        return gameStarted && !gameEnded;
+    }
+
+    public int getActiveSeat() {
+        return turnOrder.getActiveSeat();
+    }
+
+    // Seat of the last one standing, or -1 while the game is not over.
+    public int getWinnerSeat() {
+        return gameEnded ? turnOrder.first() : -1;
+    }
+
+    public int getSeatCount() {
+        return health.length;
+    }
+
+    public int getRemainingPlayerCount() {
+        return turnOrder.size();
+    }
+
+    public boolean isInGame(int seat) {
+        return turnOrder.isLive(seat);
+    }
+
+    public int getHealth(int seat) {
+        return health[seat];
+    }
+
+    public int getMana(int seat) {
+        return mana[seat];
+    }
+
+    public int getManaCapacity(int seat) {
+        return manaCapacity[seat];
+    }
+
+    public int getHandSize(int seat) {
+        return hands[seat].size();
+    }
+
+    public int getHandCount(int seat, int cost) {
+        return hands[seat].count(cost);
+    }
+
+    public int getDeckSize(int seat) {
+        return decks[seat].size();
+    }
+
+    // Cheapest card in the active player's hand, or -1 when nothing in hand can be paid for.
+    public int getCheapestPlayableCost() {
+        int seat = turnOrder.getActiveSeat();
+        return hasPlayableCard(seat) ? hands[seat].getMinCost() : -1;
+    }
+}
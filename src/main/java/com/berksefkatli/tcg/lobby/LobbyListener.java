@@ -0,0 +1,38 @@
+package com.berksefkatli.tcg.lobby;
+
+import com.berksefkatli.tcg.model.GameTemplate;
+
+// Players are identified by seat. Area damage is reported once per card as a summary, never once per victim,
+// so a callback costs the same in a lobby of ten and of ten thousand.
+public interface LobbyListener {
+
+    LobbyListener NO_OP = new LobbyListener() {
+    };
+
+    default void onGameStarted(GameTemplate template, long seed) {
+    }
+
+    default void onTurnStarted(int seat) {
+    }
+
+    default void onCardPlayed(int seat, int cost) {
+    }
+
+    default void onAreaDamage(int seat, int damage, int victims, int eliminated, int remaining) {
+    }
+
+    default void onPlayerOverloaded(int seat) {
+    }
+
+    default void onPlayerBled(int seat, int damage, boolean eliminated) {
+    }
+
+    default void onTurnSkipped(int seat) {
+    }
+
+    default void onTurnEnded(int seat) {
+    }
+
+    default void onGameWon(int seat) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.berksefkatli.tcg.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters and histograms for one game or for the whole process. Every update is a LongAdder or Histogram
+// add, safe to call from any number of game threads while JMX reads.
+public class GameMetrics implements GameMetricsMBean {
+
+    public static final String DOMAIN = "com.berksefkatli.tcg";
+
+    private static final GameMetrics PROCESS = new GameMetrics();
+
+    static {
+        PROCESS.register(DOMAIN + ":type=GameMetrics,name=process");
+    }
+
+    final LongAdder gamesStarted = new LongAdder();
+    final LongAdder gamesWon = new LongAdder();
+    final LongAdder cardsPlayed = new LongAdder();
+    final LongAdder damageDealt = new LongAdder();
+    final LongAdder overloads = new LongAdder();
+    final LongAdder bleedOuts = new LongAdder();
+    final LongAdder skippedTurns = new LongAdder();
+    final LongAdder eliminations = new LongAdder();
+    final Histogram playCardNanos = new Histogram();
+    final Histogram endTurnNanos = new Histogram();
+    final Histogram gameTurns = new Histogram();
+    private ObjectName objectName;
+
+    // Totals of every game in this JVM, registered with the platform MBean server on first use.
+    public static GameMetrics process() {
+        return PROCESS;
+    }
+
+    // Metrics must never stop a game, a name that cannot be registered leaves these metrics unpublished.
+    boolean register(String name) {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.objectName = objectName;
+            return true;
+        } catch (JMException e) {
+            return false;
+        }
+    }
+
+    void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            // Already unregistered.
+        }
+        objectName = null;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    @Override
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    @Override
+    public long getCardsPlayed() {
+        return cardsPlayed.sum();
+    }
+
+    @Override
+    public long getDamageDealt() {
+        return damageDealt.sum();
+    }
+
+    @Override
+    public long getOverloads() {
+        return overloads.sum();
+    }
+
+    @Override
+    public long getBleedOuts() {
+        return bleedOuts.sum();
+    }
+
+    @Override
+    public long getSkippedTurns() {
+        return skippedTurns.sum();
+    }
+
+    @Override
+    public long getEliminations() {
+        return eliminations.sum();
+    }
+
+    @Override
+    public long getPlayCardCount() {
+        return playCardNanos.getCount();
+    }
+
+    @Override
+    public double getPlayCardMeanNanos() {
+        return playCardNanos.getMean();
+    }
+
+    @Override
+    public long getPlayCardP50Nanos() {
+        return playCardNanos.getQuantile(0.5);
+    }
+
+    @Override
+    public long getPlayCardP99Nanos() {
+        return playCardNanos.getQuantile(0.99);
+    }
+
+    @Override
+    public long getPlayCardMaxNanos() {
+        return playCardNanos.getMax();
+    }
+
+    @Override
+    public long getEndTurnCount() {
+        return endTurnNanos.getCount();
+    }
+
+    @Override
+    public double getEndTurnMeanNanos() {
+        return endTurnNanos.getMean();
+    }
+
+    @Override
+    public long getEndTurnP50Nanos() {
+        return endTurnNanos.getQuantile(0.5);
+    }
+
+    @Override
+    public long getEndTurnP99Nanos() {
+        return endTurnNanos.getQuantile(0.99);
+    }
+
+    @Override
+    public long getEndTurnMaxNanos() {
+        return endTurnNanos.getMax();
+    }
+
+    @Override
+    public double getGameTurnsMean() {
+        return gameTurns.getMean();
+    }
+
+    @Override
+    public long getGameTurnsP50() {
+        return gameTurns.getQuantile(0.5);
+    }
+
+    @Override
+    public long getGameTurnsP99() {
+        return gameTurns.getQuantile(0.99);
+    }
+
+    @Override
+    public long getGameTurnsMax() {
+        return gameTurns.getMax();
+    }
+}
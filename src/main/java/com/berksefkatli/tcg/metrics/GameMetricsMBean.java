@@ -0,0 +1,49 @@
+package com.berksefkatli.tcg.metrics;
+
+// Attributes published over JMX, latencies are in nanoseconds and game lengths in turns.
+public interface GameMetricsMBean {
+
+    long getGamesStarted();
+
+    long getGamesWon();
+
+    long getCardsPlayed();
+
+    long getDamageDealt();
+
+    long getOverloads();
+
+    long getBleedOuts();
+
+    long getSkippedTurns();
+
+    long getEliminations();
+
+    long getPlayCardCount();
+
+    double getPlayCardMeanNanos();
+
+    long getPlayCardP50Nanos();
+
+    long getPlayCardP99Nanos();
+
+    long getPlayCardMaxNanos();
+
+    long getEndTurnCount();
+
+    double getEndTurnMeanNanos();
+
+    long getEndTurnP50Nanos();
+
+    long getEndTurnP99Nanos();
+
+    long getEndTurnMaxNanos();
+
+    double getGameTurnsMean();
+
+    long getGameTurnsP50();
+
+    long getGameTurnsP99();
+
+    long getGameTurnsMax();
+}
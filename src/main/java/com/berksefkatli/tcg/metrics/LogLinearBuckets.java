@@ -0,0 +1,46 @@
+package com.berksefkatli.tcg.metrics;
+
+// Bucket layout shared by the log-linear histograms: values below 2^subBucketBits get a bucket each, every higher
+// power of two is split into 2^subBucketBits equal buckets. More sub bucket bits mean narrower buckets.
+public final class LogLinearBuckets {
+
+    private final int subBucketBits;
+    private final int subBuckets;
+
+    public LogLinearBuckets(int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > 16) {
+            throw new IllegalArgumentException("Sub bucket bits must be between 1 and 16: " + subBucketBits);
+        }
+        this.subBucketBits = subBucketBits;
+        this.subBuckets = 1 << subBucketBits;
+    }
+
+    // Enough buckets for every non-negative long.
+    public int getBucketCount() {
+        return (Long.SIZE - subBucketBits) * subBuckets;
+    }
+
+    public int bucket(long value) {
+        if (value < subBuckets) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - subBucketBits)) & (subBuckets - 1);
+        return (magnitude - subBucketBits + 1) * subBuckets + subBucket;
+    }
+
+    public long lowerBound(int bucket) {
+        if (bucket < subBuckets) {
+            return bucket;
+        }
+        int shift = bucket / subBuckets - 1;
+        return (long) (subBuckets + bucket % subBuckets) << shift;
+    }
+
+    public long upperBound(int bucket) {
+        if (bucket < subBuckets) {
+            return bucket;
+        }
+        return lowerBound(bucket) + (1L << (bucket / subBuckets - 1)) - 1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.berksefkatli.tcg.metrics;
+
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Records one game into its own metrics and into the process totals. The game's metrics are published over JMX
+// while it is live and unregistered once it is won or closed. Only registering allocates, the per event work does not.
+public class MetricsGameListener implements GameListener, Closeable {
+
+    private static final AtomicLong GAME_SEQUENCE = new AtomicLong();
+
+    private final GameMetrics gameMetrics = new GameMetrics();
+    private final GameMetrics processMetrics;
+    private long turns;
+    // Set when a card play or a turn end starts executing and recorded when its command completes, null otherwise.
+    private Histogram gameCommandNanos;
+    private Histogram processCommandNanos;
+    private long commandStartNanos;
+
+    public MetricsGameListener() {
+        this(GameMetrics.process());
+    }
+
+    public MetricsGameListener(GameMetrics processMetrics) {
+        this.processMetrics = processMetrics;
+    }
+
+    public GameMetrics getGameMetrics() {
+        return gameMetrics;
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        gameMetrics.register(GameMetrics.DOMAIN + ":type=GameMetrics,name=game-" + GAME_SEQUENCE.incrementAndGet());
+        gameMetrics.gamesStarted.increment();
+        processMetrics.gamesStarted.increment();
+    }
+
+    @Override
+    public void onTurnStarted(Player player) {
+        turns++;
+    }
+
+    @Override
+    public void onCardPlayed(Player player, int cost) {
+        startCommand(gameMetrics.playCardNanos, processMetrics.playCardNanos);
+        gameMetrics.cardsPlayed.increment();
+        processMetrics.cardsPlayed.increment();
+    }
+
+    @Override
+    public void onDamageDealt(Player player, int damage) {
+        gameMetrics.damageDealt.add(damage);
+        processMetrics.damageDealt.add(damage);
+    }
+
+    @Override
+    public void onPlayerOverloaded(Player player) {
+        gameMetrics.overloads.increment();
+        processMetrics.overloads.increment();
+    }
+
+    @Override
+    public void onPlayerBled(Player player, int damage) {
+        gameMetrics.bleedOuts.increment();
+        processMetrics.bleedOuts.increment();
+    }
+
+    @Override
+    public void onPlayerEliminated(Player player) {
+        gameMetrics.eliminations.increment();
+        processMetrics.eliminations.increment();
+    }
+
+    @Override
+    public void onTurnSkipped(Player player) {
+        gameMetrics.skippedTurns.increment();
+        processMetrics.skippedTurns.increment();
+    }
+
+    @Override
+    public void onTurnEnded(Player player) {
+        startCommand(gameMetrics.endTurnNanos, processMetrics.endTurnNanos);
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+        gameMetrics.gamesWon.increment();
+        processMetrics.gamesWon.increment();
+        gameMetrics.gameTurns.record(turns);
+        processMetrics.gameTurns.record(turns);
+        gameMetrics.unregister();
+    }
+
+    @Override
+    public void onCommandCompleted() {
+        if (gameCommandNanos == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - commandStartNanos;
+        gameCommandNanos.record(elapsedNanos);
+        processCommandNanos.record(elapsedNanos);
+        gameCommandNanos = null;
+        processCommandNanos = null;
+    }
+
+    private void startCommand(Histogram gameHistogram, Histogram processHistogram) {
+        gameCommandNanos = gameHistogram;
+        processCommandNanos = processHistogram;
+        commandStartNanos = System.nanoTime();
+    }
+
+    // Unpublishes the game's metrics when it is abandoned before anyone wins.
+    @Override
+    public void close() {
+        gameMetrics.unregister();
+    }
+}
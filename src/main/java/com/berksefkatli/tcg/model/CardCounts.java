@@ -0,0 +1,129 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Multiset of card costs, cards are equal whenever their costs are so only the count per cost is kept.
+public class CardCounts {
+
+    private int[] counts;
+    private int offset;
+    private int size;
+    private int minCost;
+    // Bit n is set while a card with cost n is in the multiset, only covers costs 0 to 63.
+    private long costsMask;
+
+    public CardCounts() {
+        this.counts = new int[0];
+    }
+
+    public CardCounts(CardCounts cardCounts) {
+        this.counts = cardCounts.counts.clone();
+        this.offset = cardCounts.offset;
+        this.size = cardCounts.size;
+        this.minCost = cardCounts.minCost;
+        this.costsMask = cardCounts.costsMask;
+    }
+
+    public void add(int cost) {
+        ensureRange(cost);
+        if (size == 0 || cost < minCost) {
+            minCost = cost;
+        }
+        if (counts[cost - offset]++ == 0 && isMaskable(cost)) {
+            costsMask |= 1L << cost;
+        }
+        size++;
+    }
+
+    public boolean remove(int cost) {
+        if (!contains(cost)) {
+            return false;
+        }
+        size--;
+        if (--counts[cost - offset] == 0) {
+            if (isMaskable(cost)) {
+                costsMask &= ~(1L << cost);
+            }
+            if (cost == minCost && size > 0) {
+                while (counts[minCost - offset] == 0) {
+                    minCost++;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(int cost) {
+        return count(cost) > 0;
+    }
+
+    public int count(int cost) {
+        int index = cost - offset;
+        if (index < 0 || index >= counts.length) {
+            return 0;
+        }
+        return counts[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+        costsMask = 0;
+    }
+
+    // Only meaningful while the multiset is not empty.
+    public int getMinCost() {
+        return minCost;
+    }
+
+    public long getCostsMask() {
+        return costsMask;
+    }
+
+    // First and last costs of the range currently covered, counts outside of it are always 0.
+    public int getFirstCost() {
+        return offset;
+    }
+
+    public int getLastCost() {
+        return offset + counts.length - 1;
+    }
+
+    public List<Card> toCards() {
+        List<Card> cards = new ArrayList<>(size);
+        for (int i = 0; i < counts.length; i++) {
+            for (int j = 0; j < counts[i]; j++) {
+                cards.add(new Card(offset + i));
+            }
+        }
+        return cards;
+    }
+
+    private static boolean isMaskable(int cost) {
+        return cost >= 0 && cost < Long.SIZE;
+    }
+
+    private void ensureRange(int cost) {
+        if (counts.length == 0) {
+            counts = new int[1];
+            offset = cost;
+        } else if (cost < offset) {
+            int[] grownCounts = new int[counts.length + offset - cost];
+            System.arraycopy(counts, 0, grownCounts, offset - cost, counts.length);
+            counts = grownCounts;
+            offset = cost;
+        } else if (cost - offset >= counts.length) {
+            counts = Arrays.copyOf(counts, cost - offset + 1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.berksefkatli.tcg.model;
 
 import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -24,10 +25,14 @@ public class Config {
     }
 
     public void setPlayers(Set<Player> players) {
-        if (players.size() < 2) {
+        validatePlayerCount(players.size());
+        this.players = players;
+    }
+
+    static void validatePlayerCount(int playerCount) {
+        if (playerCount < 2) {
             throw new InvalidConfigurationException("There cannot be less than 2 unique players");
         }
-        this.players = players;
     }
 
     public List<Card> getDeck() {
@@ -35,13 +40,17 @@ public class Config {
     }
 
     public void setDeck(List<Card> deck) {
-        if (deck.isEmpty()) {
+        validateDeckSize(deck.size(), initialHandSize);
+        this.deck = deck;
+    }
+
+    static void validateDeckSize(int deckSize, int initialHandSize) {
+        if (deckSize == 0) {
             throw new InvalidConfigurationException("Deck must contain at least 1 card");
         }
-        if (initialHandSize > deck.size()) {
+        if (initialHandSize > deckSize) {
             throw new InvalidConfigurationException("Deck size cannot be less than the initial hand size");
         }
-        this.deck = deck;
     }
 
     private List<Card> getDefaultDeck() {
@@ -154,6 +163,29 @@ public class Config {
         this.bleedingDamageAmount = bleedingDamageAmount;
     }
 
+    // Identifies the rules a game was played with, e.g. to check a journal is replayed against the same config.
+    @JsonIgnore
+    public long getFingerprint() {
+        long fingerprint = mix(0, players.size());
+        for (Player player : players) {
+            fingerprint = mix(fingerprint, player.getName().hashCode());
+        }
+        fingerprint = mix(fingerprint, deck.size());
+        for (Card card : deck) {
+            fingerprint = mix(fingerprint, card.getCost());
+        }
+        fingerprint = mix(fingerprint, initialHealth);
+        fingerprint = mix(fingerprint, initialManaCapacity);
+        fingerprint = mix(fingerprint, initialHandSize);
+        fingerprint = mix(fingerprint, maxManaCapacity);
+        fingerprint = mix(fingerprint, maxHandSize);
+        return mix(fingerprint, bleedingDamageAmount);
+    }
+
+    private static long mix(long hash, int value) {
+        return Zobrist.mix64((hash + value) * 0x9E3779B97F4A7C15L);
+    }
+
     @Override
     public String toString() {
         return "Players: " + players.stream().map(Player::getName)
@@ -0,0 +1,59 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+// Deck in draw order, cards are drawn by moving an index over the costs instead of removing objects.
+public class DrawPile {
+
+    private final int[] costs;
+    private int top;
+
+    public DrawPile(int[] costs) {
+        this.costs = costs;
+    }
+
+    public DrawPile(DrawPile drawPile) {
+        this.costs = drawPile.costs.clone();
+        this.top = drawPile.top;
+    }
+
+    public int draw() {
+        return costs[top++];
+    }
+
+    public boolean isEmpty() {
+        return top == costs.length;
+    }
+
+    public int size() {
+        return costs.length - top;
+    }
+
+    // Fisher-Yates over the remaining cards, in place.
+    public void shuffle(SplittableRandom random) {
+        for (int i = costs.length - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            int cost = costs[i];
+            costs[i] = costs[j];
+            costs[j] = cost;
+        }
+    }
+
+    public CardCounts toCounts() {
+        CardCounts cardCounts = new CardCounts();
+        for (int i = top; i < costs.length; i++) {
+            cardCounts.add(costs[i]);
+        }
+        return cardCounts;
+    }
+
+    public Deque<Card> toCards() {
+        Deque<Card> cards = new ArrayDeque<>(size());
+        for (int i = top; i < costs.length; i++) {
+            cards.add(new Card(costs[i]));
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,37 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.List;
+
+// Immutable view of a game, safe to read from any thread while the game keeps going.
+public final class GameSnapshot {
+
+    private final List<PlayerSnapshot> players;
+    private final PlayerSnapshot activePlayer;
+    private final boolean live;
+    private final long sequence;
+
+    public GameSnapshot(List<PlayerSnapshot> players, PlayerSnapshot activePlayer, boolean live, long sequence) {
+        this.players = players;
+        this.activePlayer = activePlayer;
+        this.live = live;
+        this.sequence = sequence;
+    }
+
+    // Players that are still in the game, in turn order.
+    public List<PlayerSnapshot> getPlayers() {
+        return players;
+    }
+
+    public PlayerSnapshot getActivePlayer() {
+        return activePlayer;
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    // Increases with every published snapshot of the same game.
+    public long getSequence() {
+        return sequence;
+    }
+}
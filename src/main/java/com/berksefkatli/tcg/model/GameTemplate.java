@@ -0,0 +1,86 @@
+package com.berksefkatli.tcg.model;
+
+// Everything a game needs from a config, checked and copied once. Nothing in here changes after construction, so
+// one template can start any number of games on any number of threads, and later edits to the config do not
+// leak into games built from it.
+public final class GameTemplate {
+
+    private final String[] playerNames;
+    private final int[] deck;
+    private final int initialHealth;
+    private final int initialManaCapacity;
+    private final int initialHandSize;
+    private final int maxManaCapacity;
+    private final int maxHandSize;
+    private final int bleedingDamageAmount;
+    private final long fingerprint;
+
+    public GameTemplate(Config config) {
+        this.playerNames = config.getPlayers().stream().map(Player::getName).toArray(String[]::new);
+        this.deck = config.getDeck().stream().mapToInt(Card::getCost).toArray();
+        this.initialHealth = config.getInitialHealth();
+        this.initialManaCapacity = config.getInitialManaCapacity();
+        this.initialHandSize = config.getInitialHandSize();
+        this.maxManaCapacity = config.getMaxManaCapacity();
+        this.maxHandSize = config.getMaxHandSize();
+        this.bleedingDamageAmount = config.getBleedingDamageAmount();
+        this.fingerprint = config.getFingerprint();
+        validate();
+    }
+
+    // The config setters keep every limit valid, but the player set and the deck list can be edited in place
+    // after they were set, so their sizes are checked again with the config's own rules.
+    private void validate() {
+        Config.validatePlayerCount(playerNames.length);
+        Config.validateDeckSize(deck.length, initialHandSize);
+    }
+
+    public int getPlayerCount() {
+        return playerNames.length;
+    }
+
+    public String getPlayerName(int seat) {
+        return playerNames[seat];
+    }
+
+    public int getDeckSize() {
+        return deck.length;
+    }
+
+    public int getCost(int index) {
+        return deck[index];
+    }
+
+    // A fresh copy for every player to shuffle and draw from.
+    public int[] copyDeck() {
+        return deck.clone();
+    }
+
+    public int getInitialHealth() {
+        return initialHealth;
+    }
+
+    public int getInitialManaCapacity() {
+        return initialManaCapacity;
+    }
+
+    public int getInitialHandSize() {
+        return initialHandSize;
+    }
+
+    public int getMaxManaCapacity() {
+        return maxManaCapacity;
+    }
+
+    public int getMaxHandSize() {
+        return maxHandSize;
+    }
+
+    public int getBleedingDamageAmount() {
+        return bleedingDamageAmount;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+}
@@ -3,28 +3,38 @@ package com.berksefkatli.tcg.model;
 import com.berksefkatli.tcg.exception.TcgException.InvalidNameException;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
 
-public class Player {
+public class Player implements ReadOnlyPlayer {
     private String name;
-    private List<Card> hand;
-    private Deque<Card> deck;
+    private CardCounts hand = new CardCounts();
+    private DrawPile deck = new DrawPile(new int[0]);
 
     private int health;
     private int mana;
     private int manaCapacity;
 
+    private int seat;
+    // Bumped on every change, lets snapshots reuse the previous state of untouched players.
+    private int modificationCount;
+    private long zobristHash;
+
     public Player() {
     }
 
     public Player(Player player) {
         this.name = player.name;
-        this.hand = player.hand;
-        this.deck = player.deck;
+        this.hand = new CardCounts(player.hand);
+        this.deck = new DrawPile(player.deck);
         this.health = player.health;
         this.mana = player.mana;
         this.manaCapacity = player.manaCapacity;
+        this.seat = player.seat;
+        this.zobristHash = player.zobristHash;
     }
 
     public Player(String name) {
@@ -32,20 +42,22 @@ public class Player {
             throw new InvalidNameException();
         }
         this.name = name.trim();
-        this.deck = new ArrayDeque<>();
-        this.hand = new ArrayList<>();
     }
 
+    @Override
     public String getName() {
         return name;
     }
 
+    @Override
     public int getHealth() {
         return health;
     }
 
     public void setHealth(int health) {
+        zobristHash = Zobrist.update(zobristHash, seat, Zobrist.HEALTH, this.health, health);
         this.health = health;
+        modificationCount++;
     }
 
     @JsonIgnore
@@ -53,40 +65,180 @@ public class Player {
         return health <= 0;
     }
 
+    @Override
     public int getManaCapacity() {
         return manaCapacity;
     }
 
     public void setManaCapacity(int manaCapacity) {
+        zobristHash = Zobrist.update(zobristHash, seat, Zobrist.MANA_CAPACITY, this.manaCapacity, manaCapacity);
         this.manaCapacity = manaCapacity;
+        modificationCount++;
     }
 
+    @Override
     public int getMana() {
         return mana;
     }
 
     public void setMana(int mana) {
+        zobristHash = Zobrist.update(zobristHash, seat, Zobrist.MANA, this.mana, mana);
         this.mana = mana;
+        modificationCount++;
+    }
+
+    @Override
+    @JsonIgnore
+    public int getSeat() {
+        return seat;
+    }
+
+    @JsonIgnore
+    public void setSeat(int seat) {
+        this.seat = seat;
+        rehash();
+    }
+
+    @JsonIgnore
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    // Kept up to date by every change, equal for players in the same state at the same seat.
+    @JsonIgnore
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    private void rehash() {
+        zobristHash = Zobrist.key(seat, Zobrist.HEALTH, health)
+                + Zobrist.key(seat, Zobrist.MANA, mana)
+                + Zobrist.key(seat, Zobrist.MANA_CAPACITY, manaCapacity);
+        for (int cost = hand.getFirstCost(); cost <= hand.getLastCost(); cost++) {
+            zobristHash += hand.count(cost) * Zobrist.key(seat, Zobrist.HAND, cost);
+        }
+        CardCounts deckCounts = deck.toCounts();
+        for (int cost = deckCounts.getFirstCost(); cost <= deckCounts.getLastCost(); cost++) {
+            zobristHash += deckCounts.count(cost) * Zobrist.key(seat, Zobrist.DECK, cost);
+        }
     }
 
     public Deque<Card> getDeck() {
-        return deck;
+        return deck.toCards();
     }
 
     public void setDeck(Deque<Card> deck) {
+        this.deck = new DrawPile(deck.stream().mapToInt(Card::getCost).toArray());
+        modificationCount++;
+        rehash();
+    }
+
+    @JsonIgnore
+    public void setDrawPile(DrawPile deck) {
         this.deck = deck;
+        modificationCount++;
+        rehash();
     }
 
-    public List<Card> getHand() {
+    @Override
+    @JsonIgnore
+    public int getDeckSize() {
+        return deck.size();
+    }
+
+    public int drawCard() {
+        modificationCount++;
+        int cost = deck.draw();
+        zobristHash -= Zobrist.key(seat, Zobrist.DECK, cost);
+        return cost;
+    }
+
+    public void shuffleDeck(SplittableRandom random) {
+        deck.shuffle(random);
+        modificationCount++;
+    }
+
+    DrawPile drawPile() {
+        return deck;
+    }
+
+    CardCounts handCounts() {
         return hand;
     }
 
+    public List<Card> getHand() {
+        return hand.toCards();
+    }
+
     public void setHand(List<Card> hand) {
-        this.hand = hand;
+        this.hand = new CardCounts();
+        hand.forEach(card -> this.hand.add(card.getCost()));
+        modificationCount++;
+        rehash();
     }
 
+    @Override
+    @JsonIgnore
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    public void clearHand() {
+        hand.clear();
+        modificationCount++;
+        rehash();
+    }
+
+    public void addToHand(int cost) {
+        hand.add(cost);
+        modificationCount++;
+        zobristHash += Zobrist.key(seat, Zobrist.HAND, cost);
+    }
+
+    public boolean removeFromHand(int cost) {
+        modificationCount++;
+        if (!hand.remove(cost)) {
+            return false;
+        }
+        zobristHash -= Zobrist.key(seat, Zobrist.HAND, cost);
+        return true;
+    }
+
+    @Override
+    public int getHandCount(int cost) {
+        return hand.count(cost);
+    }
+
+    @Override
+    public boolean hasInHand(int cost) {
+        return hand.contains(cost);
+    }
+
+    @Override
+    public boolean hasPlayableCard() {
+        return !hand.isEmpty() && hand.getMinCost() <= mana;
+    }
+
+    // Bit n is set when a card with cost n can be played, costs outside of 0 to 63 are not included.
+    @Override
+    public long playableCostsMask() {
+        if (mana < 0) {
+            return 0;
+        }
+        long affordableMask = mana >= Long.SIZE - 1 ? -1L : (1L << (mana + 1)) - 1;
+        return hand.getCostsMask() & affordableMask;
+    }
+
+    // Builds a new list on each call, prefer hasPlayableCard or playableCostsMask outside of the UI.
+    @Override
     public List<Card> getPlayableCards() {
-        return hand.stream().filter(card -> card.getCost() <= mana).collect(Collectors.toList());
+        List<Card> playableCards = new ArrayList<>();
+        for (int cost = hand.getFirstCost(); cost <= Math.min(hand.getLastCost(), mana); cost++) {
+            for (int i = 0; i < hand.count(cost); i++) {
+                playableCards.add(new Card(cost));
+            }
+        }
+        return playableCards;
     }
 
     @Override
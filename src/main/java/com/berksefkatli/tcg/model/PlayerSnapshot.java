@@ -0,0 +1,94 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class PlayerSnapshot {
+
+    private final String name;
+    private final int seat;
+    private final int health;
+    private final int mana;
+    private final int manaCapacity;
+    private final CardCounts hand;
+    private final CardCounts deck;
+    private final List<Card> handCards;
+    private final int modificationCount;
+
+    public PlayerSnapshot(Player player) {
+        this(player.getName(), player.getSeat(), player.getHealth(), player.getMana(), player.getManaCapacity(),
+                player.handCounts(), player.drawPile().toCounts(), player.getModificationCount());
+    }
+
+    public PlayerSnapshot(String name, int seat, int health, int mana, int manaCapacity,
+                          CardCounts hand, CardCounts deck) {
+        this(name, seat, health, mana, manaCapacity, hand, deck, 0);
+    }
+
+    private PlayerSnapshot(String name, int seat, int health, int mana, int manaCapacity,
+                           CardCounts hand, CardCounts deck, int modificationCount) {
+        this.name = name;
+        this.seat = seat;
+        this.health = health;
+        this.mana = mana;
+        this.manaCapacity = manaCapacity;
+        this.hand = new CardCounts(hand);
+        this.deck = new CardCounts(deck);
+        this.handCards = Collections.unmodifiableList(hand.toCards());
+        this.modificationCount = modificationCount;
+    }
+
+    // True when the player has not changed since this snapshot was taken from it.
+    public boolean isCurrent(Player player) {
+        return player.getSeat() == seat && player.getModificationCount() == modificationCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getMana() {
+        return mana;
+    }
+
+    public int getManaCapacity() {
+        return manaCapacity;
+    }
+
+    public List<Card> getHand() {
+        return handCards;
+    }
+
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    public int getHandCount(int cost) {
+        return hand.count(cost);
+    }
+
+    public int getDeckSize() {
+        return deck.size();
+    }
+
+    public int getDeckCount(int cost) {
+        return deck.count(cost);
+    }
+
+    @Override
+    public String toString() {
+        return "Name: " + name +
+                ", Health: " + health +
+                ", Mana: " + mana +
+                ", Mana capacity: " + manaCapacity +
+                ", Cards in hand: " + hand.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.List;
+
+// What deciding a move needs to know about a player, lets a game hand out its live player without a copy.
+public interface ReadOnlyPlayer {
+
+    String getName();
+
+    int getHealth();
+
+    int getMana();
+
+    int getManaCapacity();
+
+    int getSeat();
+
+    int getDeckSize();
+
+    int getHandSize();
+
+    int getHandCount(int cost);
+
+    boolean hasInHand(int cost);
+
+    boolean hasPlayableCard();
+
+    long playableCostsMask();
+
+    List<Card> getPlayableCards();
+}
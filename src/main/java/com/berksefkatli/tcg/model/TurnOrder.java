@@ -0,0 +1,96 @@
+package com.berksefkatli.tcg.model;
+
+// Seats still in the game as a ring linked by seat index, in seat order. Advancing and removing a seat are
+// constant time and the active seat stays put when others are removed.
+public class TurnOrder {
+
+    private final int[] next;
+    private final int[] previous;
+    private final boolean[] live;
+    private int first;
+    private int active;
+    private int size;
+
+    public TurnOrder(int seatCount) {
+        if (seatCount < 1) {
+            throw new IllegalArgumentException("Turn order needs at least one seat");
+        }
+        this.next = new int[seatCount];
+        this.previous = new int[seatCount];
+        this.live = new boolean[seatCount];
+        for (int seat = 0; seat < seatCount; seat++) {
+            next[seat] = (seat + 1) % seatCount;
+            previous[seat] = (seat + seatCount - 1) % seatCount;
+            live[seat] = true;
+        }
+        this.size = seatCount;
+    }
+
+    public TurnOrder(TurnOrder turnOrder) {
+        this.next = turnOrder.next.clone();
+        this.previous = turnOrder.previous.clone();
+        this.live = turnOrder.live.clone();
+        this.first = turnOrder.first;
+        this.active = turnOrder.active;
+        this.size = turnOrder.size;
+    }
+
+    public int getActiveSeat() {
+        return active;
+    }
+
+    public void setActiveSeat(int seat) {
+        validateLive(seat);
+        active = seat;
+    }
+
+    public int advance() {
+        active = next[active];
+        return active;
+    }
+
+    // Removing the active seat makes the seat before it active, so the next advance lands on the seat after it.
+    public void remove(int seat) {
+        validateLive(seat);
+        if (size == 1) {
+            throw new IllegalStateException("Cannot remove the last seat");
+        }
+        next[previous[seat]] = next[seat];
+        previous[next[seat]] = previous[seat];
+        live[seat] = false;
+        size--;
+        if (seat == first) {
+            first = next[seat];
+        }
+        if (seat == active) {
+            active = previous[seat];
+        }
+    }
+
+    public boolean isLive(int seat) {
+        return live[seat];
+    }
+
+    // Lowest live seat, iteration in seat order starts here and follows next until it wraps around.
+    public int first() {
+        return first;
+    }
+
+    public int next(int seat) {
+        return next[seat];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSeatCount() {
+        return live.length;
+    }
+
+    private void validateLive(int seat) {
+        if (seat < 0 || seat >= live.length || !live[seat]) {
+            throw new IllegalArgumentException("Seat " + seat + " is not in the turn order");
+        }
+    }
+}
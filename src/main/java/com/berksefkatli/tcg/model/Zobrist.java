@@ -0,0 +1,35 @@
+package com.berksefkatli.tcg.model;
+
+// Zobrist style keys for every (seat, field, value) of a game state. Keys are derived with a mixing function
+// instead of a lookup table so any value has a key, and they are summed rather than xored so that a multiset
+// of cards hashes the same regardless of order and a card can be added or removed by adding or subtracting its key.
+public final class Zobrist {
+
+    public static final int HEALTH = 1;
+    public static final int MANA = 2;
+    public static final int MANA_CAPACITY = 3;
+    public static final int HAND = 4;
+    public static final int DECK = 5;
+    public static final int ACTIVE = 6;
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    private Zobrist() {
+    }
+
+    public static long key(int seat, int field, int value) {
+        return mix64(SEED + seat * 0x9E3779B97F4A7C15L + field * 0xC2B2AE3D27D4EB4FL + value * 0x165667B19E3779F9L);
+    }
+
+    // SplitMix64 finalizer, spreads inputs that differ in a few bits over the whole long.
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Replaces the key of an old value with the key of a new one.
+    public static long update(long hash, int seat, int field, int oldValue, int newValue) {
+        return hash - key(seat, field, oldValue) + key(seat, field, newValue);
+    }
+}
@@ -0,0 +1,49 @@
+package com.berksefkatli.tcg.replay;
+
+import com.berksefkatli.tcg.replay.Replayer.Verdict;
+
+import java.util.Map;
+
+public class BatchVerification {
+
+    private final Map<Verdict, Long> verdicts;
+    private final long configChangedGames;
+    private final long elapsedNanos;
+
+    BatchVerification(Map<Verdict, Long> verdicts, long configChangedGames, long elapsedNanos) {
+        this.verdicts = verdicts;
+        this.configChangedGames = configChangedGames;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return verdicts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getCount(Verdict verdict) {
+        return verdicts.getOrDefault(verdict, 0L);
+    }
+
+    // Games recorded with a config other than the one they were replayed with.
+    public long getConfigChangedGames() {
+        return configChangedGames;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public boolean isAllMatched() {
+        return getCount(Verdict.MATCHED) == getGames();
+    }
+
+    @Override
+    public String toString() {
+        return "Games: " + getGames() +
+                ", Matched: " + getCount(Verdict.MATCHED) +
+                ", Diverged: " + getCount(Verdict.DIVERGED) +
+                ", Illegal actions: " + getCount(Verdict.ILLEGAL_ACTION) +
+                ", Recorded with another config: " + configChangedGames +
+                ", Games per second: " + String.format("%.0f", getGamesPerSecond());
+    }
+}
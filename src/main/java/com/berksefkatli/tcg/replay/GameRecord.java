@@ -0,0 +1,133 @@
+package com.berksefkatli.tcg.replay;
+
+import com.berksefkatli.tcg.journal.Journal;
+import com.berksefkatli.tcg.journal.JournalReader;
+import com.berksefkatli.tcg.journal.JournalVisitor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A recorded game: its seed and the journal events that followed, the player actions among them are enough to
+// rebuild the game, the draws and overloads are what a replay is checked against.
+public class GameRecord {
+
+    public static final int END_TURN = -1;
+
+    private final long seed;
+    private final long configFingerprint;
+    private long[] events;
+    private int eventCount;
+
+    public GameRecord(long seed, long configFingerprint) {
+        this.seed = seed;
+        this.configFingerprint = configFingerprint;
+        this.events = new long[64];
+    }
+
+    // Journal records of every game in the directory, in the order the games were started.
+    public static List<GameRecord> readJournal(Path directory) throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        Map<Integer, GameRecord> liveRecords = new HashMap<>();
+        JournalReader.read(directory, new JournalVisitor() {
+            @Override
+            public void onGameStarted(int gameId, long seed, long configFingerprint) {
+                GameRecord record = new GameRecord(seed, configFingerprint);
+                records.add(record);
+                liveRecords.put(gameId, record);
+            }
+
+            @Override
+            public void onCardPlayed(int gameId, int cost) {
+                append(gameId, Journal.CARD_PLAYED, cost);
+            }
+
+            @Override
+            public void onTurnEnded(int gameId) {
+                append(gameId, Journal.TURN_ENDED, 0);
+            }
+
+            @Override
+            public void onCardDrawn(int gameId, int cost) {
+                append(gameId, Journal.CARD_DRAWN, cost);
+            }
+
+            @Override
+            public void onPlayerOverloaded(int gameId) {
+                append(gameId, Journal.PLAYER_OVERLOADED, 0);
+            }
+
+            private void append(int gameId, byte type, int value) {
+                GameRecord record = liveRecords.get(gameId);
+                // Events of a game whose start is in a deleted segment cannot be replayed.
+                if (record != null) {
+                    record.addEvent(type, value);
+                }
+            }
+        });
+        return records;
+    }
+
+    public static long event(byte type, int value) {
+        return (long) type << Integer.SIZE | (value & 0xFFFFFFFFL);
+    }
+
+    public static byte getType(long event) {
+        return (byte) (event >>> Integer.SIZE);
+    }
+
+    public static int getValue(long event) {
+        return (int) event;
+    }
+
+    public void addEvent(byte type, int value) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, eventCount * 2);
+        }
+        events[eventCount++] = event(type, value);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public long getEvent(int index) {
+        return events[index];
+    }
+
+    // Played costs and END_TURN, in order.
+    public int[] getActions() {
+        int actionCount = 0;
+        for (int i = 0; i < eventCount; i++) {
+            if (isAction(events[i])) {
+                actionCount++;
+            }
+        }
+        int[] actions = new int[actionCount];
+        int index = 0;
+        for (int i = 0; i < eventCount; i++) {
+            if (getType(events[i]) == Journal.CARD_PLAYED) {
+                actions[index++] = getValue(events[i]);
+            } else if (getType(events[i]) == Journal.TURN_ENDED) {
+                actions[index++] = END_TURN;
+            }
+        }
+        return actions;
+    }
+
+    private static boolean isAction(long event) {
+        return getType(event) == Journal.CARD_PLAYED || getType(event) == Journal.TURN_ENDED;
+    }
+}
@@ -0,0 +1,131 @@
+package com.berksefkatli.tcg.replay;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.exception.TcgException;
+import com.berksefkatli.tcg.journal.Journal;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Rebuilds games from their seed and actions. A game's randomness all comes from its seed, so the same config,
+// seed and actions always give the same game.
+public class Replayer {
+
+    public enum Verdict {
+        MATCHED,
+        // The replay drew, overloaded or acted differently than recorded.
+        DIVERGED,
+        // A recorded action is not allowed anymore, e.g. the rules changed so the card is not in hand.
+        ILLEGAL_ACTION
+    }
+
+    private final GameTemplate template;
+
+    public Replayer(Config config) {
+        this.template = new GameTemplate(config);
+    }
+
+    public Game replay(long seed, int[] actions) {
+        return fastForward(seed, actions, Integer.MAX_VALUE);
+    }
+
+    // Applies actions until the given turn, counting from 1 and including auto skipped turns, has started.
+    public Game fastForward(long seed, int[] actions, int turn) {
+        TurnCounter counter = new TurnCounter();
+        Game game = new Game(counter, template, seed);
+        for (int i = 0; i < actions.length && game.isGameLive() && counter.turns < turn; i++) {
+            PlayResult result = apply(game, actions[i]);
+            if (!result.isOk()) {
+                throw new TcgException(result.getMessage());
+            }
+        }
+        return game;
+    }
+
+    public Verdict verify(GameRecord record) {
+        VerifyingListener listener = new VerifyingListener(record);
+        Game game = new Game(listener, template, record.getSeed());
+        for (int action : record.getActions()) {
+            if (listener.diverged) {
+                break;
+            }
+            if (!apply(game, action).isOk()) {
+                return Verdict.ILLEGAL_ACTION;
+            }
+        }
+        return listener.diverged || listener.position != record.getEventCount() ? Verdict.DIVERGED : Verdict.MATCHED;
+    }
+
+    public BatchVerification verifyAll(List<GameRecord> records, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        Map<Verdict, Long> verdicts = pool.submit(() -> records.parallelStream().collect(
+                Collectors.groupingBy(this::verify, () -> new EnumMap<>(Verdict.class), Collectors.counting())))
+                .join();
+        long fingerprint = template.getFingerprint();
+        long configChanged = records.stream().filter(record -> record.getConfigFingerprint() != fingerprint).count();
+        return new BatchVerification(verdicts, configChanged, System.nanoTime() - startTime);
+    }
+
+    private static PlayResult apply(Game game, int action) {
+        return action == GameRecord.END_TURN ? game.tryEndTurn() : game.tryPlayCard(action);
+    }
+
+    private static class TurnCounter implements GameListener {
+
+        private int turns;
+
+        @Override
+        public void onTurnStarted(Player player) {
+            turns++;
+        }
+    }
+
+    // Compares the events of the replay with the recorded ones as they happen.
+    private static class VerifyingListener implements GameListener {
+
+        private final GameRecord record;
+        private int position;
+        private boolean diverged;
+
+        VerifyingListener(GameRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        public void onCardPlayed(Player player, int cost) {
+            expect(Journal.CARD_PLAYED, cost);
+        }
+
+        @Override
+        public void onTurnEnded(Player player) {
+            expect(Journal.TURN_ENDED, 0);
+        }
+
+        @Override
+        public void onCardDrawn(Player player, int cost) {
+            expect(Journal.CARD_DRAWN, cost);
+        }
+
+        @Override
+        public void onPlayerOverloaded(Player player) {
+            expect(Journal.PLAYER_OVERLOADED, 0);
+        }
+
+        private void expect(byte type, int value) {
+            if (diverged || position == record.getEventCount() ||
+                    record.getEvent(position) != GameRecord.event(type, value)) {
+                diverged = true;
+            } else {
+                position++;
+            }
+        }
+    }
+}
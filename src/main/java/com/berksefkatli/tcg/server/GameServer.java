@@ -0,0 +1,332 @@
+package com.berksefkatli.tcg.server;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.event.CompositeGameListener;
+import com.berksefkatli.tcg.event.IncrementalConsoleGameListener;
+import com.berksefkatli.tcg.exception.TcgException;
+import com.berksefkatli.tcg.flight.FlightRecording;
+import com.berksefkatli.tcg.metrics.MetricsGameListener;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+// Hosts one game per connection on a single selector thread. Clients send the same commands as the console
+// (a card's cost, 'end', 'refresh' or 'quit'), one per line, and receive the same game log the console would print.
+public class GameServer implements Closeable {
+
+    public static final String INVALID_COMMAND_MESSAGE = "Please enter a card's cost value, 'end', 'refresh' or 'quit'";
+    public static final String LINE_TOO_LONG_MESSAGE = "Commands cannot be longer than " + Session.MAX_LINE_LENGTH + " characters";
+
+    private final GameTemplate template;
+    private final InetSocketAddress address;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread eventLoop;
+    private volatile boolean running;
+    private volatile int sessionCount;
+
+    public GameServer(Config config, int port) {
+        this(config, new InetSocketAddress(port));
+    }
+
+    public GameServer(Config config, InetSocketAddress address) {
+        this.template = new GameTemplate(config);
+        this.address = address;
+    }
+
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        eventLoop = new Thread(this::runEventLoop, "tcg-server");
+        eventLoop.start();
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        eventLoop.join();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (selector == null) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            eventLoop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runEventLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Server selector failed", e);
+        } finally {
+            selector.keys().forEach(key -> {
+                if (key.attachment() != null) {
+                    ((Session) key.attachment()).close();
+                } else {
+                    closeQuietly(key.channel());
+                }
+            });
+            closeQuietly(selector);
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Session session = (Session) key.attachment();
+        try {
+            if (key.isReadable()) {
+                session.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                session.write();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Only this client is lost, the other sessions keep playing.
+            session.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            Session session = null;
+            try {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                session = new Session(channel, key);
+                key.attach(session);
+                sessionCount++;
+                session.startGame(template);
+                session.write();
+            } catch (IOException | RuntimeException e) {
+                // A client that fails while connecting is dropped on its own, the server keeps accepting.
+                if (session != null) {
+                    session.close();
+                } else {
+                    closeQuietly(channel);
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Already closed or the peer went away, either way there is nothing to clean up.
+        }
+    }
+
+    private class Session {
+
+        static final int MAX_LINE_LENGTH = 256;
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer input = ByteBuffer.allocate(1024);
+        private final byte[] line = new byte[MAX_LINE_LENGTH];
+        private final SessionOutput output = new SessionOutput();
+        private final PrintStream out;
+        private int lineLength;
+        private boolean lineTooLong;
+        private boolean closing;
+        private Game game;
+        private MetricsGameListener metrics;
+
+        Session(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+            try {
+                this.out = new PrintStream(output, false, StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void startGame(GameTemplate template) {
+            metrics = new MetricsGameListener();
+            game = new Game(FlightRecording.wrap(
+                    new CompositeGameListener(new IncrementalConsoleGameListener(out), metrics)), template);
+        }
+
+        void read() throws IOException {
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+            // Buffer casts keep classes compiled on newer JDKs linkable on Java 8.
+            ((Buffer) input).flip();
+            while (input.hasRemaining() && !closing) {
+                byte b = input.get();
+                if (b == '\n') {
+                    handleLine();
+                } else if (b != '\r') {
+                    appendToLine(b);
+                }
+            }
+            ((Buffer) input).clear();
+            write();
+        }
+
+        private void appendToLine(byte b) {
+            if (lineLength == MAX_LINE_LENGTH) {
+                lineTooLong = true;
+            } else {
+                line[lineLength++] = b;
+            }
+        }
+
+        private void handleLine() {
+            String command = new String(line, 0, lineLength, StandardCharsets.UTF_8).trim();
+            boolean tooLong = lineTooLong;
+            lineLength = 0;
+            lineTooLong = false;
+            if (tooLong) {
+                out.println(LINE_TOO_LONG_MESSAGE);
+                return;
+            }
+            try {
+                switch (command) {
+                    case "end":
+                        game.endTurn();
+                        break;
+                    case "refresh":
+                        game.refresh();
+                        break;
+                    case "quit":
+                        closing = true;
+                        return;
+                    default:
+                        PlayResult result = game.tryPlayCard(Integer.parseInt(command));
+                        if (!result.isOk()) {
+                            out.println(result.getMessage());
+                        }
+                }
+            } catch (NumberFormatException e) {
+                out.println(INVALID_COMMAND_MESSAGE);
+            } catch (TcgException e) {
+                out.println(e.getMessage());
+            }
+            if (!game.isGameLive()) {
+                closing = true;
+            }
+        }
+
+        void write() throws IOException {
+            out.flush();
+            if (output.overflowed) {
+                close();
+                return;
+            }
+            ByteBuffer buffer = output.buffer;
+            ((Buffer) buffer).flip();
+            channel.write(buffer);
+            buffer.compact();
+            if (buffer.position() > 0) {
+                // No new commands until the client has taken the output of the previous ones.
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else if (closing) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void close() {
+            if (key.isValid()) {
+                key.cancel();
+                sessionCount--;
+            }
+            if (metrics != null) {
+                metrics.close();
+            }
+            closeQuietly(channel);
+        }
+    }
+
+    // Collects the game log of a session until the channel accepts it. Past the limit the client is not keeping up,
+    // the rest of the log is dropped and the session gets closed on its next write.
+    private static class SessionOutput extends OutputStream {
+
+        static final int MAX_PENDING_BYTES = 1 << 20;
+
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+        private boolean overflowed;
+
+        @Override
+        public void write(int b) {
+            if (ensureRemaining(1)) {
+                buffer.put((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (ensureRemaining(length)) {
+                buffer.put(bytes, offset, length);
+            }
+        }
+
+        private boolean ensureRemaining(int length) {
+            if (overflowed || buffer.position() + length > MAX_PENDING_BYTES) {
+                overflowed = true;
+                return false;
+            }
+            if (buffer.remaining() < length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.min(MAX_PENDING_BYTES,
+                        Math.max(buffer.capacity() * 2, buffer.position() + length)));
+                ((Buffer) buffer).flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+            return true;
+        }
+    }
+}
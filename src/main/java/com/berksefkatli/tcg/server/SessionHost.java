@@ -0,0 +1,240 @@
+package com.berksefkatli.tcg.server;
+
+import com.berksefkatli.tcg.UserInterface;
+import com.berksefkatli.tcg.event.BatchingOutputStream;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs the console menu for every TCP client, one blocking session per thread. Sessions get a virtual thread
+// each when the runtime has them, otherwise they share a bounded pool and wait in a queue while it is full.
+// Sessions read the server's config but never write it back.
+public class SessionHost implements Closeable {
+
+    // Output of a session is written by a task of its own, a slow client only holds up its session once this many
+    // batches are waiting, and for no longer than the timeout.
+    public static final int OUTPUT_BUFFERS = 4;
+    public static final long OUTPUT_TIMEOUT_MILLIS = 10_000;
+
+    private final String configPath;
+    private final InetSocketAddress address;
+    private final ExecutorService executor;
+    private final ExecutorService outputWriters;
+    private final boolean virtualThreads;
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicInteger queuedSessions = new AtomicInteger();
+    private final LongAdder commandCount = new LongAdder();
+    private final LongAdder commandNanos = new LongAdder();
+    private final AtomicLong maxCommandNanos = new AtomicLong();
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    public SessionHost(String configPath, InetSocketAddress address, int maxPlatformThreads) {
+        this.configPath = configPath;
+        this.address = address;
+        ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+        this.virtualThreads = virtualThreadExecutor != null;
+        this.executor = virtualThreads ? virtualThreadExecutor : new ThreadPoolExecutor(maxPlatformThreads,
+                maxPlatformThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        // Writers must not wait behind queued sessions for a pooled thread.
+        this.outputWriters = virtualThreads ? executor : Executors.newCachedThreadPool();
+    }
+
+    // Looked up reflectively, the build still targets Java 8.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        acceptor = new Thread(this::acceptSessions, "tcg-session-acceptor");
+        acceptor.start();
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        acceptor.join();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public int getQueuedSessions() {
+        return queuedSessions.get();
+    }
+
+    public long getCommandCount() {
+        return commandCount.sum();
+    }
+
+    public long getAverageCommandLatencyNanos() {
+        long count = commandCount.sum();
+        return count == 0 ? 0 : commandNanos.sum() / count;
+    }
+
+    public long getMaxCommandLatencyNanos() {
+        return maxCommandNanos.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverSocket == null) {
+            return;
+        }
+        serverSocket.close();
+        sockets.forEach(SessionHost::closeQuietly);
+        // Sessions still waiting for a thread never run, so they leave the queue here.
+        queuedSessions.addAndGet(-executor.shutdownNow().size());
+        outputWriters.shutdownNow();
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptSessions() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sockets.add(socket);
+                queuedSessions.incrementAndGet();
+                try {
+                    executor.execute(() -> runSession(socket));
+                } catch (RejectedExecutionException e) {
+                    // Shut down by close() while this client was being accepted.
+                    queuedSessions.decrementAndGet();
+                    sockets.remove(socket);
+                    closeQuietly(socket);
+                }
+            } catch (SocketException e) {
+                // Closed by close().
+            } catch (IOException e) {
+                // A failed accept only loses that client.
+            }
+        }
+    }
+
+    private void runSession(Socket socket) {
+        queuedSessions.decrementAndGet();
+        activeSessions.incrementAndGet();
+        CommandTimingInputStream in = null;
+        BatchingOutputStream output = null;
+        try {
+            in = new CommandTimingInputStream(socket.getInputStream());
+            output = new BatchingOutputStream(socket.getOutputStream(), OUTPUT_BUFFERS, outputWriters,
+                    OUTPUT_TIMEOUT_MILLIS);
+            PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8.name());
+            // Every session starts from the server's config but keeps its customizations to itself.
+            UserInterface.mainMenu(UserInterface.getConfigFromFile(configPath, out, out), null, in, out, out);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException | NoSuchElementException e) {
+            // The client went away mid-session, e.g. the scanner ran out of lines.
+        } finally {
+            if (in != null) {
+                // The last command, e.g. quitting the main menu, never asks for more input.
+                in.finishCommand();
+            }
+            if (output != null) {
+                // Sends what is left, e.g. the output of the last command, and stops the writer.
+                closeQuietly(output);
+            }
+            activeSessions.decrementAndGet();
+            sockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    private void recordCommand(long nanos) {
+        commandCount.increment();
+        commandNanos.add(nanos);
+        long max;
+        while (nanos > (max = maxCommandNanos.get()) && !maxCommandNanos.compareAndSet(max, nanos)) {
+            // Retry until the max is ours or someone else's is larger.
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to clean up.
+        }
+    }
+
+    // A command's latency runs from the read that delivered its line until the session asks for more input.
+    private class CommandTimingInputStream extends FilterInputStream {
+
+        private long commandStartNanos;
+
+        CommandTimingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            finishCommand();
+            int b = super.read();
+            if (b == '\n') {
+                commandStartNanos = System.nanoTime();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            finishCommand();
+            int read = super.read(bytes, offset, length);
+            for (int i = offset; i < offset + read; i++) {
+                if (bytes[i] == '\n') {
+                    commandStartNanos = System.nanoTime();
+                    break;
+                }
+            }
+            return read;
+        }
+
+        private void finishCommand() {
+            if (commandStartNanos != 0) {
+                recordCommand(System.nanoTime() - commandStartNanos);
+                commandStartNanos = 0;
+            }
+        }
+    }
+}
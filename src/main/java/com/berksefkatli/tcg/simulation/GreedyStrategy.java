@@ -0,0 +1,26 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+
+public class GreedyStrategy implements Strategy {
+
+    @Override
+    public Card chooseCard(ReadOnlyPlayer activePlayer) {
+        long playableCostsMask = activePlayer.playableCostsMask();
+        // Cards costing more than 63 are missing from the mask, they can only be afforded with more mana than that.
+        if (playableCostsMask != 0 && activePlayer.getMana() < Long.SIZE) {
+            return new Card(Long.SIZE - 1 - Long.numberOfLeadingZeros(playableCostsMask));
+        }
+        if (!activePlayer.hasPlayableCard()) {
+            return null;
+        }
+        Card bestCard = null;
+        for (Card card : activePlayer.getPlayableCards()) {
+            if (bestCard == null || card.getCost() > bestCard.getCost()) {
+                bestCard = card;
+            }
+        }
+        return bestCard;
+    }
+}
@@ -0,0 +1,21 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.bot.TurnPlanner;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+
+// Plays the cards of the damage maximising plan for the turn, most expensive first.
+public class PlannedStrategy implements Strategy {
+
+    private final TurnPlanner planner;
+
+    public PlannedStrategy(TurnPlanner planner) {
+        this.planner = planner;
+    }
+
+    @Override
+    public Card chooseCard(ReadOnlyPlayer activePlayer) {
+        int cost = planner.getHighestCost(planner.plan(activePlayer));
+        return cost == -1 ? null : new Card(cost);
+    }
+}
@@ -0,0 +1,84 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.stats.GameStats;
+
+import java.util.concurrent.TimeUnit;
+
+public class SimulationResult {
+
+    private final GameStats stats;
+    private long games;
+    private long firstPlayerWins;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long elapsedNanos;
+
+    SimulationResult(GameStats stats) {
+        this.stats = stats;
+    }
+
+    void addGame(boolean firstPlayerWon, boolean finished, int turns) {
+        games++;
+        if (!finished) {
+            unfinishedGames++;
+        } else if (firstPlayerWon) {
+            firstPlayerWins++;
+        }
+        totalTurns += turns;
+    }
+
+    void merge(SimulationResult other) {
+        games += other.games;
+        firstPlayerWins += other.firstPlayerWins;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        stats.merge(other.stats);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getFirstPlayerWins() {
+        return firstPlayerWins;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public double getFirstPlayerWinRate() {
+        long finishedGames = games - unfinishedGames;
+        return finishedGames == 0 ? 0 : (double) firstPlayerWins / finishedGames;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    // Win rates by seat, game length distribution, overloads, bleed outs and the damage curve of every game.
+    public GameStats getStats() {
+        return stats;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Games: " + games +
+                ", First player win rate: " + String.format("%.4f", getFirstPlayerWinRate()) +
+                ", Unfinished games: " + unfinishedGames +
+                ", Average turns: " + String.format("%.2f", getAverageTurns()) +
+                ", Games per second: " + String.format("%.0f", getGamesPerSecond());
+    }
+}
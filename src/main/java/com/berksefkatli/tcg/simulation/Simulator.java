@@ -0,0 +1,121 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.event.CompositeGameListener;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+import com.berksefkatli.tcg.model.Zobrist;
+import com.berksefkatli.tcg.stats.GameStats;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Simulator {
+
+    // Games that go on longer than this are given up on, e.g. configs without any damage or bleeding.
+    public static final int MAX_TURNS = 10_000;
+
+    private final GameTemplate template;
+    private final Strategy strategy;
+    private final ForkJoinPool pool;
+
+    public Simulator(Config config) {
+        this(config, new GreedyStrategy(), ForkJoinPool.commonPool());
+    }
+
+    public Simulator(Config config, Strategy strategy, ForkJoinPool pool) {
+        this.template = new GameTemplate(config);
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    public SimulationResult run(long games, long seed) {
+        long leafSize = Math.max(1, games / (pool.getParallelism() * 16L));
+        long startTime = System.nanoTime();
+        SimulationResult result = pool.invoke(new SimulationTask(seed, 0, games, leafSize));
+        result.setElapsedNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    public static long gameSeed(long seed, long gameIndex) {
+        // Gives well spread and reproducible seeds for consecutive game indexes.
+        return Zobrist.mix64(seed + (gameIndex + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    void playGame(long gameSeed, SimulationResult result) {
+        OutcomeListener outcome = new OutcomeListener();
+        Game game = new Game(new CompositeGameListener(outcome, result.getStats()), template, gameSeed);
+        while (game.isGameLive() && outcome.turns <= MAX_TURNS) {
+            Card card = strategy.chooseCard(game.getReadOnlyActivePlayer());
+            if (card == null) {
+                game.endTurn();
+            } else {
+                PlayResult playResult = game.tryPlayCard(card.getCost());
+                if (!playResult.isOk()) {
+                    // A rejected play changes nothing, so carrying on would ask the strategy the same question forever.
+                    throw new IllegalStateException(strategy.getClass().getSimpleName() + " chose a card with " +
+                            card.getCost() + " cost that cannot be played: " + playResult.getMessage());
+                }
+            }
+        }
+        result.getStats().endGame();
+        result.addGame(outcome.firstPlayer.equals(outcome.winner), outcome.winner != null, outcome.turns);
+    }
+
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+
+        private final long seed;
+        private final long from;
+        private final long to;
+        private final long leafSize;
+
+        SimulationTask(long seed, long from, long to, long leafSize) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= leafSize) {
+                // Each leaf fills its own result, so workers never contend on shared counters.
+                SimulationResult result = new SimulationResult(new GameStats(template));
+                for (long i = from; i < to; i++) {
+                    playGame(gameSeed(seed, i), result);
+                }
+                return result;
+            }
+            long middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(seed, from, middle, leafSize);
+            left.fork();
+            SimulationResult result = new SimulationTask(seed, middle, to, leafSize).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    private static class OutcomeListener implements GameListener {
+
+        private Player firstPlayer;
+        private Player winner;
+        private int turns;
+
+        @Override
+        public void onTurnStarted(Player player) {
+            if (firstPlayer == null) {
+                firstPlayer = player;
+            }
+            turns++;
+        }
+
+        @Override
+        public void onGameWon(Player player) {
+            winner = player;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+
+public interface Strategy {
+
+    // Returns the card to play, or null to end the turn.
+    Card chooseCard(ReadOnlyPlayer activePlayer);
+}
@@ -0,0 +1,69 @@
+package com.berksefkatli.tcg.solver;
+
+import com.berksefkatli.tcg.model.GameSnapshot;
+import com.berksefkatli.tcg.model.PlayerSnapshot;
+import com.berksefkatli.tcg.state.StateLayout;
+
+// Two player game state with decks kept as multisets, every transition returns a new position.
+class Position {
+
+    final int[] health;
+    final int[] mana;
+    final int[] manaCapacity;
+    final int[][] hand;
+    final int[][] deck;
+    int active;
+
+    private Position(int costCount) {
+        this.health = new int[2];
+        this.mana = new int[2];
+        this.manaCapacity = new int[2];
+        this.hand = new int[2][costCount];
+        this.deck = new int[2][costCount];
+    }
+
+    private Position(Position position) {
+        this.health = position.health.clone();
+        this.mana = position.mana.clone();
+        this.manaCapacity = position.manaCapacity.clone();
+        this.hand = new int[][]{position.hand[0].clone(), position.hand[1].clone()};
+        this.deck = new int[][]{position.deck[0].clone(), position.deck[1].clone()};
+        this.active = position.active;
+    }
+
+    static Position of(GameSnapshot snapshot, StateLayout layout) {
+        Position position = new Position(layout.getCostCount());
+        for (PlayerSnapshot player : snapshot.getPlayers()) {
+            int seat = player.getSeat();
+            position.health[seat] = player.getHealth();
+            position.mana[seat] = player.getMana();
+            position.manaCapacity[seat] = player.getManaCapacity();
+            for (int i = 0; i < layout.getCostCount(); i++) {
+                position.hand[seat][i] = player.getHandCount(layout.getCost(i));
+                position.deck[seat][i] = player.getDeckCount(layout.getCost(i));
+            }
+        }
+        position.active = snapshot.getActivePlayer().getSeat();
+        return position;
+    }
+
+    Position copy() {
+        return new Position(this);
+    }
+
+    int deckSize(int seat) {
+        int size = 0;
+        for (int count : deck[seat]) {
+            size += count;
+        }
+        return size;
+    }
+
+    int handSize(int seat) {
+        int size = 0;
+        for (int count : hand[seat]) {
+            size += count;
+        }
+        return size;
+    }
+}
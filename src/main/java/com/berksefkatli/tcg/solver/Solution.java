@@ -0,0 +1,35 @@
+package com.berksefkatli.tcg.solver;
+
+public class Solution {
+
+    private final int bestMove;
+    private final double winProbability;
+    private final long nodes;
+
+    Solution(int bestMove, double winProbability, long nodes) {
+        this.bestMove = bestMove;
+        this.winProbability = winProbability;
+        this.nodes = nodes;
+    }
+
+    // Cost of the card to play, or Solver.END_TURN.
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    // Probability that the active player wins when both players play optimally.
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "Best move: " + (bestMove == Solver.END_TURN ? "end" : "" + bestMove) +
+                ", Win probability: " + winProbability +
+                ", Nodes: " + nodes;
+    }
+}
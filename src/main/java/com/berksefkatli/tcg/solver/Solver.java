@@ -0,0 +1,203 @@
+package com.berksefkatli.tcg.solver;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.exception.TcgException.GameNotLiveException;
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameSnapshot;
+import com.berksefkatli.tcg.state.StateKey;
+import com.berksefkatli.tcg.state.StateLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Exact expectiminimax for two player games. Players choose at decision nodes, draws at the start of a turn are
+// chance nodes over the remaining deck multiset. Decision nodes are searched with alpha-beta and chance nodes with
+// Star1 pruning, values are win probabilities of the player to move so they always lie between 0 and 1.
+// Results of decision nodes are kept in a transposition table keyed by the packed state.
+public class Solver {
+
+    public static final int END_TURN = -1;
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 22;
+
+    private static final byte EXACT = 0;
+    private static final byte LOWER_BOUND = 1;
+    private static final byte UPPER_BOUND = 2;
+
+    private final Config config;
+    private final StateLayout layout;
+    private final int tableCapacity;
+    private final Map<StateKey, Entry> table = new HashMap<>();
+    private long nodes;
+
+    public Solver(Config config) {
+        this(config, DEFAULT_TABLE_CAPACITY);
+    }
+
+    public Solver(Config config, int tableCapacity) {
+        if (config.getPlayers().size() != 2) {
+            throw new InvalidConfigurationException("Only two player games can be solved");
+        }
+        if (config.getBleedingDamageAmount() < 1) {
+            // Without bleeding a game can go on forever once the decks are empty.
+            throw new InvalidConfigurationException("Only games with a bleeding damage of at least 1 can be solved");
+        }
+        this.config = config;
+        this.layout = new StateLayout(config);
+        this.tableCapacity = tableCapacity;
+    }
+
+    public Solution solve(Game game) {
+        return solve(game.captureSnapshot());
+    }
+
+    public Solution solve(GameSnapshot snapshot) {
+        if (!snapshot.isLive()) {
+            throw new GameNotLiveException();
+        }
+        nodes = 0;
+        Position position = Position.of(snapshot, layout);
+        int bestMove = END_TURN;
+        double best = -1;
+        for (int move = layout.getCostCount() - 1; move >= END_TURN; move--) {
+            if (isLegal(position, move)) {
+                double value = moveValue(position, move, Math.max(best, 0), 1);
+                if (value > best) {
+                    best = value;
+                    bestMove = move;
+                }
+            }
+        }
+        return new Solution(bestMove == END_TURN ? END_TURN : layout.getCost(bestMove), best, nodes);
+    }
+
+    public int getTableSize() {
+        return table.size();
+    }
+
+    private boolean isLegal(Position position, int move) {
+        return move == END_TURN || (position.hand[position.active][move] > 0
+                && layout.getCost(move) <= position.mana[position.active]);
+    }
+
+    private boolean hasPlayableCard(Position position, int seat) {
+        for (int i = 0; i < layout.getCostCount(); i++) {
+            if (position.hand[seat][i] > 0 && layout.getCost(i) <= position.mana[seat]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Win probability of the active player at a decision node.
+    private double search(Position position, double alpha, double beta) {
+        nodes++;
+        StateKey key = new StateKey(layout.pack(position.active, position.health, position.mana,
+                position.manaCapacity, position.hand, position.deck));
+        Entry entry = table.get(key);
+        if (entry != null) {
+            if (entry.bound == EXACT
+                    || (entry.bound == LOWER_BOUND && entry.value >= beta)
+                    || (entry.bound == UPPER_BOUND && entry.value <= alpha)) {
+                return entry.value;
+            }
+        }
+        double originalAlpha = alpha;
+        double best = 0;
+        // Expensive cards first, they tend to be the best moves and cause the most cutoffs.
+        for (int move = layout.getCostCount() - 1; move >= END_TURN && alpha < beta; move--) {
+            if (isLegal(position, move)) {
+                double value = moveValue(position, move, alpha, beta);
+                best = Math.max(best, value);
+                alpha = Math.max(alpha, value);
+            }
+        }
+        if (table.size() < tableCapacity) {
+            byte bound = best <= originalAlpha ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+            table.put(key, new Entry(best, bound));
+        }
+        return best;
+    }
+
+    private double moveValue(Position position, int move, double alpha, double beta) {
+        int seat = position.active;
+        int opponent = 1 - seat;
+        Position next = position.copy();
+        if (move != END_TURN) {
+            int cost = layout.getCost(move);
+            next.mana[seat] -= cost;
+            next.hand[seat][move]--;
+            if (cost > 0) {
+                next.health[opponent] -= cost;
+                if (next.health[opponent] <= 0) {
+                    return 1;
+                }
+            }
+            if (hasPlayableCard(next, seat)) {
+                return search(next, alpha, beta);
+            }
+        }
+        return 1 - turnStart(next, opponent, 1 - beta, 1 - alpha);
+    }
+
+    // Win probability of the seat whose turn starts, a chance node over the card it draws.
+    private double turnStart(Position position, int seat, double alpha, double beta) {
+        nodes++;
+        position.active = seat;
+        position.manaCapacity[seat] = Math.min(position.manaCapacity[seat] + 1, config.getMaxManaCapacity());
+        position.mana[seat] = position.manaCapacity[seat];
+        int deckSize = position.deckSize(seat);
+        if (deckSize == 0) {
+            position.health[seat] -= config.getBleedingDamageAmount();
+            return afterDraw(position, seat, alpha, beta);
+        }
+        boolean overloaded = position.handSize(seat) == config.getMaxHandSize();
+        double expected = 0;
+        double remaining = 1;
+        for (int i = 0; i < layout.getCostCount(); i++) {
+            if (position.deck[seat][i] == 0) {
+                continue;
+            }
+            double probability = (double) position.deck[seat][i] / deckSize;
+            remaining -= probability;
+            // Window in which this outcome can still change the result, given the outcomes seen so far
+            // and the widest possible values of the ones still to come.
+            double childAlpha = (alpha - expected - remaining) / probability;
+            double childBeta = (beta - expected) / probability;
+            Position drawn = position.copy();
+            drawn.deck[seat][i]--;
+            if (!overloaded) {
+                drawn.hand[seat][i]++;
+            }
+            expected += probability * afterDraw(drawn, seat, Math.max(childAlpha, 0), Math.min(childBeta, 1));
+            if (expected + remaining <= alpha) {
+                return expected + remaining;
+            }
+            if (expected >= beta) {
+                return expected;
+            }
+        }
+        return expected;
+    }
+
+    private double afterDraw(Position position, int seat, double alpha, double beta) {
+        if (position.health[seat] <= 0) {
+            return 0;
+        }
+        if (hasPlayableCard(position, seat)) {
+            return search(position, alpha, beta);
+        }
+        return 1 - turnStart(position, 1 - seat, 1 - beta, 1 - alpha);
+    }
+
+    private static class Entry {
+
+        private final double value;
+        private final byte bound;
+
+        Entry(double value, byte bound) {
+            this.value = value;
+            this.bound = bound;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.berksefkatli.tcg.state;
+
+import java.util.Arrays;
+
+// Hash map key around a packed state, equality compares the packed words.
+public final class StateKey {
+
+    private final long[] words;
+    private final int hash;
+
+    public StateKey(long[] words) {
+        this.words = words;
+        this.hash = Arrays.hashCode(words);
+    }
+
+    public long[] getWords() {
+        return words.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StateKey stateKey = (StateKey) o;
+        return hash == stateKey.hash && Arrays.equals(words, stateKey.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
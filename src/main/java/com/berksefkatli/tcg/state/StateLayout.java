@@ -0,0 +1,224 @@
+package com.berksefkatli.tcg.state;
+
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.CardCounts;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameSnapshot;
+import com.berksefkatli.tcg.model.Player;
+import com.berksefkatli.tcg.model.PlayerSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Packs a game state into as few bits as the config allows: the active seat, then per seat health, mana,
+// mana capacity and the per cost counts of the hand and the remaining deck. Deck order is not part of the state.
+// Eliminated seats are packed with 0 health.
+public class StateLayout {
+
+    private final String[] names;
+    private final int[] costs;
+    private final int[] costIndexes;
+    private final int[] multiplicities;
+    private final int[] countBits;
+    private final int[] countShifts;
+    private final int activeBits;
+    private final int healthBits;
+    private final int manaBits;
+    private final int wordCount;
+
+    public StateLayout(Config config) {
+        int[] deckCosts = config.getDeck().stream().mapToInt(Card::getCost).sorted().toArray();
+        if (deckCosts[0] < 0) {
+            throw new InvalidConfigurationException("Packed states cannot hold cards with negative cost");
+        }
+        this.names = config.getPlayers().stream().map(Player::getName).toArray(String[]::new);
+        this.costs = Arrays.stream(deckCosts).distinct().toArray();
+        this.costIndexes = new int[deckCosts[deckCosts.length - 1] + 1];
+        Arrays.fill(costIndexes, -1);
+        this.multiplicities = new int[costs.length];
+        this.countBits = new int[costs.length];
+        this.countShifts = new int[costs.length];
+        for (int i = 0; i < costs.length; i++) {
+            int cost = costs[i];
+            costIndexes[cost] = i;
+            multiplicities[i] = (int) Arrays.stream(deckCosts).filter(deckCost -> deckCost == cost).count();
+            countBits[i] = bitsFor(multiplicities[i]);
+            countShifts[i] = i == 0 ? 0 : countShifts[i - 1] + countBits[i - 1];
+        }
+        this.activeBits = bitsFor(names.length - 1);
+        this.healthBits = bitsFor(config.getInitialHealth());
+        this.manaBits = bitsFor(config.getMaxManaCapacity());
+        int seatBits = healthBits + 2 * manaBits + 2 * Arrays.stream(countBits).sum();
+        this.wordCount = (activeBits + names.length * seatBits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static int bitsFor(int maxValue) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(maxValue);
+    }
+
+    public int getPlayerCount() {
+        return names.length;
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    public int getCostCount() {
+        return costs.length;
+    }
+
+    public int getCost(int costIndex) {
+        return costs[costIndex];
+    }
+
+    // Index of the cost in the per cost counts, or -1 when no card in the deck has that cost.
+    public int getCostIndex(int cost) {
+        return cost >= 0 && cost < costIndexes.length ? costIndexes[cost] : -1;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    // Bits needed for the per cost counts of a single hand or deck.
+    public int getCountsBits() {
+        return Arrays.stream(countBits).sum();
+    }
+
+    public int getCountBits(int costIndex) {
+        return countBits[costIndex];
+    }
+
+    // Per cost counts, such as a hand, fit one long when getCountsBits is below 64: the count of each cost index
+    // sits at this shift, cheapest cost in the lowest bits.
+    public int getCountShift(int costIndex) {
+        return countShifts[costIndex];
+    }
+
+    // Number of cards with the given cost index in the config deck, the most a hand or deck can hold.
+    public int getMaxCount(int costIndex) {
+        return multiplicities[costIndex];
+    }
+
+    public long[] encode(GameSnapshot snapshot) {
+        int[] health = new int[names.length];
+        int[] mana = new int[names.length];
+        int[] manaCapacity = new int[names.length];
+        int[][] handCounts = new int[names.length][costs.length];
+        int[][] deckCounts = new int[names.length][costs.length];
+        for (PlayerSnapshot player : snapshot.getPlayers()) {
+            int seat = player.getSeat();
+            health[seat] = Math.max(player.getHealth(), 0);
+            mana[seat] = player.getMana();
+            manaCapacity[seat] = player.getManaCapacity();
+            for (int i = 0; i < costs.length; i++) {
+                handCounts[seat][i] = player.getHandCount(costs[i]);
+                deckCounts[seat][i] = player.getDeckCount(costs[i]);
+            }
+        }
+        return pack(snapshot.getActivePlayer().getSeat(), health, mana, manaCapacity, handCounts, deckCounts);
+    }
+
+    public long[] pack(int activeSeat, int[] health, int[] mana, int[] manaCapacity,
+                       int[][] handCounts, int[][] deckCounts) {
+        BitWriter writer = new BitWriter(new long[wordCount]);
+        writer.write(activeSeat, activeBits);
+        for (int seat = 0; seat < names.length; seat++) {
+            writer.write(health[seat], healthBits);
+            writer.write(mana[seat], manaBits);
+            writer.write(manaCapacity[seat], manaBits);
+            for (int i = 0; i < costs.length; i++) {
+                writer.write(handCounts[seat][i], countBits[i]);
+                writer.write(deckCounts[seat][i], countBits[i]);
+            }
+        }
+        return writer.words;
+    }
+
+    // Rebuilds the state of the seats that are still in the game, decks come back as multisets.
+    public GameSnapshot decode(long[] words) {
+        BitReader reader = new BitReader(words);
+        int activeSeat = reader.read(activeBits);
+        List<PlayerSnapshot> players = new ArrayList<>();
+        PlayerSnapshot activePlayer = null;
+        for (int seat = 0; seat < names.length; seat++) {
+            int health = reader.read(healthBits);
+            int mana = reader.read(manaBits);
+            int manaCapacity = reader.read(manaBits);
+            CardCounts hand = new CardCounts();
+            CardCounts deck = new CardCounts();
+            for (int i = 0; i < costs.length; i++) {
+                addCopies(hand, costs[i], reader.read(countBits[i]));
+                addCopies(deck, costs[i], reader.read(countBits[i]));
+            }
+            if (health > 0) {
+                PlayerSnapshot player = new PlayerSnapshot(names[seat], seat, health, mana, manaCapacity, hand, deck);
+                players.add(player);
+                if (seat == activeSeat) {
+                    activePlayer = player;
+                }
+            }
+        }
+        return new GameSnapshot(Collections.unmodifiableList(players), activePlayer, players.size() > 1, 0);
+    }
+
+    private static void addCopies(CardCounts cardCounts, int cost, int copies) {
+        for (int i = 0; i < copies; i++) {
+            cardCounts.add(cost);
+        }
+    }
+
+    private static class BitWriter {
+
+        private final long[] words;
+        private int position;
+
+        BitWriter(long[] words) {
+            this.words = words;
+        }
+
+        void write(int value, int bits) {
+            if (value < 0 || (bits < Integer.SIZE && value >>> bits != 0)) {
+                throw new IllegalArgumentException("Value " + value + " does not fit in " + bits + " bits");
+            }
+            if (bits == 0) {
+                return;
+            }
+            int word = position >>> 6;
+            int offset = position & 63;
+            words[word] |= (long) value << offset;
+            if (offset + bits > Long.SIZE) {
+                words[word + 1] |= (long) value >>> (Long.SIZE - offset);
+            }
+            position += bits;
+        }
+    }
+
+    private static class BitReader {
+
+        private final long[] words;
+        private int position;
+
+        BitReader(long[] words) {
+            this.words = words;
+        }
+
+        int read(int bits) {
+            if (bits == 0) {
+                return 0;
+            }
+            int word = position >>> 6;
+            int offset = position & 63;
+            long value = words[word] >>> offset;
+            if (offset + bits > Long.SIZE) {
+                value |= words[word + 1] << (Long.SIZE - offset);
+            }
+            position += bits;
+            return (int) (value & ((1L << bits) - 1));
+        }
+    }
+}
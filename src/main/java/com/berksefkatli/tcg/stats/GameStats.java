@@ -0,0 +1,236 @@
+package com.berksefkatli.tcg.stats;
+
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.Player;
+
+// Streaming summary of many games played from one template. Listen to games one after another with the same
+// instance, each game is folded into fixed size counters, a sketch and histograms as it ends, so memory does not
+// grow with the number of games. Not thread safe: keep one per thread and merge the partials at the end.
+public class GameStats implements GameListener {
+
+    // Turns past this are folded into the last point of the damage curve.
+    public static final int DAMAGE_CURVE_TURNS = 200;
+    public static final int GAME_LENGTH_BUCKET_WIDTH = 5;
+
+    private final long configFingerprint;
+    private final long[] winsBySeat;
+    private final long[] startsBySeat;
+    private final long[] winsBySeatWhenStarting;
+    private final long[] damageByTurn = new long[DAMAGE_CURVE_TURNS];
+    private final long[] gamesByTurn = new long[DAMAGE_CURVE_TURNS];
+    private final QuantileSketch gameLengths = new QuantileSketch();
+    private final LinearHistogram gameLengthHistogram =
+            new LinearHistogram(GAME_LENGTH_BUCKET_WIDTH, DAMAGE_CURVE_TURNS / GAME_LENGTH_BUCKET_WIDTH);
+    private long games;
+    private long unfinishedGames;
+    private long turns;
+    private long overloads;
+    private long gamesWithOverload;
+    private long bleedOuts;
+    private long gamesWithBleedOut;
+
+    // The game currently being listened to.
+    private boolean inGame;
+    private int gameTurns;
+    private int startingSeat;
+    private int gameOverloads;
+    private int gameBleedOuts;
+
+    public GameStats(GameTemplate template) {
+        this.configFingerprint = template.getFingerprint();
+        this.winsBySeat = new long[template.getPlayerCount()];
+        this.startsBySeat = new long[template.getPlayerCount()];
+        this.winsBySeatWhenStarting = new long[template.getPlayerCount()];
+    }
+
+    @Override
+    public void onGameStarted(GameTemplate template, long seed) {
+        if (template.getFingerprint() != configFingerprint || template.getPlayerCount() != winsBySeat.length) {
+            throw new IllegalArgumentException("Game does not use the config these stats summarize");
+        }
+        endGame();
+        inGame = true;
+        gameTurns = 0;
+        startingSeat = -1;
+        gameOverloads = 0;
+        gameBleedOuts = 0;
+    }
+
+    @Override
+    public void onTurnStarted(Player player) {
+        if (startingSeat < 0) {
+            startingSeat = player.getSeat();
+        }
+        gameTurns++;
+        gamesByTurn[curveIndex(gameTurns)]++;
+    }
+
+    @Override
+    public void onDamageDealt(Player player, int damage) {
+        damageByTurn[curveIndex(gameTurns)] += damage;
+    }
+
+    @Override
+    public void onPlayerOverloaded(Player player) {
+        gameOverloads++;
+    }
+
+    @Override
+    public void onPlayerBled(Player player, int damage) {
+        gameBleedOuts++;
+    }
+
+    @Override
+    public void onGameWon(Player player) {
+        winsBySeat[player.getSeat()]++;
+        if (player.getSeat() == startingSeat) {
+            winsBySeatWhenStarting[startingSeat]++;
+        }
+        finishGame(true);
+    }
+
+    // Counts a game that was given up on before anyone won, does nothing once the game is already counted.
+    public void endGame() {
+        if (inGame) {
+            finishGame(false);
+        }
+    }
+
+    private void finishGame(boolean won) {
+        games++;
+        if (!won) {
+            unfinishedGames++;
+        }
+        if (startingSeat >= 0) {
+            startsBySeat[startingSeat]++;
+        }
+        turns += gameTurns;
+        gameLengths.add(gameTurns);
+        gameLengthHistogram.add(gameTurns);
+        overloads += gameOverloads;
+        gamesWithOverload += gameOverloads > 0 ? 1 : 0;
+        bleedOuts += gameBleedOuts;
+        gamesWithBleedOut += gameBleedOuts > 0 ? 1 : 0;
+        inGame = false;
+    }
+
+    private static int curveIndex(int turn) {
+        return Math.max(0, Math.min(turn, DAMAGE_CURVE_TURNS) - 1);
+    }
+
+    public void merge(GameStats other) {
+        if (other.configFingerprint != configFingerprint || other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("Stats of different configs cannot be merged");
+        }
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+            startsBySeat[seat] += other.startsBySeat[seat];
+            winsBySeatWhenStarting[seat] += other.winsBySeatWhenStarting[seat];
+        }
+        for (int i = 0; i < DAMAGE_CURVE_TURNS; i++) {
+            damageByTurn[i] += other.damageByTurn[i];
+            gamesByTurn[i] += other.gamesByTurn[i];
+        }
+        gameLengths.merge(other.gameLengths);
+        gameLengthHistogram.merge(other.gameLengthHistogram);
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        turns += other.turns;
+        overloads += other.overloads;
+        gamesWithOverload += other.gamesWithOverload;
+        bleedOuts += other.bleedOuts;
+        gamesWithBleedOut += other.gamesWithBleedOut;
+    }
+
+    public long getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    public int getSeatCount() {
+        return winsBySeat.length;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return rate(winsBySeat[seat], games - unfinishedGames);
+    }
+
+    public long getStarts(int seat) {
+        return startsBySeat[seat];
+    }
+
+    // Share of the games the seat started that it also won.
+    public double getWinRateWhenStarting(int seat) {
+        return rate(winsBySeatWhenStarting[seat], startsBySeat[seat]);
+    }
+
+    // Share of the finished games won by whoever took the first turn.
+    public double getStartingPlayerWinRate() {
+        long startingPlayerWins = 0;
+        for (long wins : winsBySeatWhenStarting) {
+            startingPlayerWins += wins;
+        }
+        return rate(startingPlayerWins, games - unfinishedGames);
+    }
+
+    public double getAverageTurns() {
+        return rate(turns, games);
+    }
+
+    public QuantileSketch getGameLengths() {
+        return gameLengths;
+    }
+
+    public LinearHistogram getGameLengthHistogram() {
+        return gameLengthHistogram;
+    }
+
+    public long getOverloads() {
+        return overloads;
+    }
+
+    public double getOverloadsPerGame() {
+        return rate(overloads, games);
+    }
+
+    public double getGamesWithOverloadRate() {
+        return rate(gamesWithOverload, games);
+    }
+
+    public long getBleedOuts() {
+        return bleedOuts;
+    }
+
+    public double getBleedOutsPerGame() {
+        return rate(bleedOuts, games);
+    }
+
+    public double getGamesWithBleedOutRate() {
+        return rate(gamesWithBleedOut, games);
+    }
+
+    // Average card damage dealt during the given turn, counting from 1, over the games that reached it.
+    public double getAverageDamage(int turn) {
+        return rate(damageByTurn[turn - 1], gamesByTurn[turn - 1]);
+    }
+
+    public long getGamesReaching(int turn) {
+        return gamesByTurn[turn - 1];
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+}
@@ -0,0 +1,47 @@
+package com.berksefkatli.tcg.stats;
+
+// Counts of values in equal width buckets starting at 0, values past the last bucket are counted in it.
+// Partials with the same shape merge by adding their counts.
+public class LinearHistogram {
+
+    private final long bucketWidth;
+    private final long[] counts;
+
+    public LinearHistogram(long bucketWidth, int bucketCount) {
+        if (bucketWidth < 1 || bucketCount < 1) {
+            throw new IllegalArgumentException("Histogram needs a positive bucket width and bucket count");
+        }
+        this.bucketWidth = bucketWidth;
+        this.counts = new long[bucketCount];
+    }
+
+    public void add(long value) {
+        counts[(int) Math.min(Math.max(value, 0) / bucketWidth, counts.length - 1)]++;
+    }
+
+    public void merge(LinearHistogram other) {
+        if (other.bucketWidth != bucketWidth || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Histograms of different shapes cannot be merged");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public long getBucketStart(int bucket) {
+        return bucket * bucketWidth;
+    }
+
+    // Inclusive, the last bucket is open ended and reports Long.MAX_VALUE.
+    public long getBucketEnd(int bucket) {
+        return bucket == counts.length - 1 ? Long.MAX_VALUE : (bucket + 1) * bucketWidth - 1;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+}
@@ -0,0 +1,78 @@
+package com.berksefkatli.tcg.stats;
+
+import com.berksefkatli.tcg.metrics.LogLinearBuckets;
+
+import java.util.Arrays;
+
+// Mergeable quantile sketch over non-negative longs. Values are counted in log-linear buckets, 32 per power of two,
+// so a quantile is off by at most about 3% of its value and memory stays fixed however many values are added.
+// Merging adds the bucket counts, so partials merged in any order give the same quantiles as one sketch.
+public class QuantileSketch {
+
+    static final LogLinearBuckets LAYOUT = new LogLinearBuckets(5);
+    private static final int BUCKETS = LAYOUT.getBucketCount();
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Sketch values cannot be negative: " + value);
+        }
+        counts[LAYOUT.bucket(value)]++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(QuantileSketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    // Midpoint of the bucket holding the value at the given rank, clamped to the values actually seen.
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long lowerBound = LAYOUT.lowerBound(i);
+                long midpoint = lowerBound + (LAYOUT.upperBound(i) - lowerBound) / 2;
+                return Math.max(getMin(), Math.min(midpoint, max));
+            }
+        }
+        return max;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+}
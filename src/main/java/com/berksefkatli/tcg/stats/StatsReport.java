@@ -0,0 +1,108 @@
+package com.berksefkatli.tcg.stats;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+// Writes game stats as CSV rows of section, key and value, or as one JSON document with the same content.
+public final class StatsReport {
+
+    public static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    // Leaves the writer open, it may well be stdout.
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private StatsReport() {
+    }
+
+    public static void writeCsv(GameStats stats, Writer writer) throws IOException {
+        writer.write("section,key,value\n");
+        row(writer, "config", "fingerprint", Long.toHexString(stats.getConfigFingerprint()));
+        row(writer, "games", "total", stats.getGames());
+        row(writer, "games", "unfinished", stats.getUnfinishedGames());
+        row(writer, "games", "starting_player_win_rate", stats.getStartingPlayerWinRate());
+        for (int seat = 0; seat < stats.getSeatCount(); seat++) {
+            row(writer, "win_rate_by_seat", seat, stats.getWinRate(seat));
+            row(writer, "win_rate_by_starting_seat", seat, stats.getWinRateWhenStarting(seat));
+        }
+        row(writer, "game_length", "average", stats.getAverageTurns());
+        row(writer, "game_length", "min", stats.getGameLengths().getMin());
+        for (double quantile : QUANTILES) {
+            row(writer, "game_length", "p" + percent(quantile), stats.getGameLengths().getQuantile(quantile));
+        }
+        row(writer, "game_length", "max", stats.getGameLengths().getMax());
+        LinearHistogram histogram = stats.getGameLengthHistogram();
+        for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+            row(writer, "game_length_histogram", bucketLabel(histogram, bucket), histogram.getCount(bucket));
+        }
+        row(writer, "overloads", "per_game", stats.getOverloadsPerGame());
+        row(writer, "overloads", "games_with_any", stats.getGamesWithOverloadRate());
+        row(writer, "bleed_outs", "per_game", stats.getBleedOutsPerGame());
+        row(writer, "bleed_outs", "games_with_any", stats.getGamesWithBleedOutRate());
+        for (int turn = 1; turn <= GameStats.DAMAGE_CURVE_TURNS && stats.getGamesReaching(turn) > 0; turn++) {
+            row(writer, "damage_per_turn", turn, stats.getAverageDamage(turn));
+        }
+        writer.flush();
+    }
+
+    public static void writeJson(GameStats stats, Writer writer) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("configFingerprint", Long.toHexString(stats.getConfigFingerprint()));
+        root.put("games", stats.getGames());
+        root.put("unfinishedGames", stats.getUnfinishedGames());
+        root.put("startingPlayerWinRate", stats.getStartingPlayerWinRate());
+        ArrayNode seats = root.putArray("seats");
+        for (int seat = 0; seat < stats.getSeatCount(); seat++) {
+            seats.addObject()
+                    .put("seat", seat)
+                    .put("winRate", stats.getWinRate(seat))
+                    .put("starts", stats.getStarts(seat))
+                    .put("winRateWhenStarting", stats.getWinRateWhenStarting(seat));
+        }
+        ObjectNode gameLength = root.putObject("gameLength");
+        gameLength.put("average", stats.getAverageTurns());
+        gameLength.put("min", stats.getGameLengths().getMin());
+        for (double quantile : QUANTILES) {
+            gameLength.put("p" + percent(quantile), stats.getGameLengths().getQuantile(quantile));
+        }
+        gameLength.put("max", stats.getGameLengths().getMax());
+        ArrayNode buckets = gameLength.putArray("histogram");
+        LinearHistogram histogram = stats.getGameLengthHistogram();
+        for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+            buckets.addObject().put("turns", bucketLabel(histogram, bucket)).put("games", histogram.getCount(bucket));
+        }
+        root.putObject("overloads")
+                .put("perGame", stats.getOverloadsPerGame())
+                .put("gamesWithAny", stats.getGamesWithOverloadRate());
+        root.putObject("bleedOuts")
+                .put("perGame", stats.getBleedOutsPerGame())
+                .put("gamesWithAny", stats.getGamesWithBleedOutRate());
+        ArrayNode damagePerTurn = root.putArray("damagePerTurn");
+        for (int turn = 1; turn <= GameStats.DAMAGE_CURVE_TURNS && stats.getGamesReaching(turn) > 0; turn++) {
+            damagePerTurn.addObject().put("turn", turn).put("averageDamage", stats.getAverageDamage(turn));
+        }
+        objectMapper.writeValue(writer, root);
+    }
+
+    private static void row(Writer writer, String section, Object key, Object value) throws IOException {
+        String formattedValue = value instanceof Double ? String.format(Locale.ROOT, "%.6f", value) : value.toString();
+        writer.write(section + "," + key + "," + formattedValue + "\n");
+    }
+
+    private static String percent(double quantile) {
+        return String.valueOf(Math.round(quantile * 100));
+    }
+
+    private static String bucketLabel(LinearHistogram histogram, int bucket) {
+        return histogram.getBucketStart(bucket) + (bucket == histogram.getBucketCount() - 1
+                ? "+" : "-" + histogram.getBucketEnd(bucket));
+    }
+}
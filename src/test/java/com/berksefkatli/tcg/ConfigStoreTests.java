@@ -0,0 +1,75 @@
+package com.berksefkatli.tcg;
+
+import com.berksefkatli.tcg.model.Config;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigStoreTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void when_manyChanges_expect_oneWrite() throws IOException {
+        Path path = directory.resolve("config.json");
+        ConfigStore configStore = new ConfigStore(path, 60_000);
+        Config config = new Config();
+        for (int health = 1; health <= 10; health++) {
+            config.setInitialHealth(health);
+            configStore.markDirty(config);
+        }
+        assertTrue(configStore.isDirty());
+        assertFalse(Files.exists(path));
+
+        configStore.flush();
+
+        assertFalse(configStore.isDirty());
+        assertEquals(1, configStore.getWriteCount());
+        assertEquals(10, objectMapper.readValue(path.toFile(), Config.class).getInitialHealth());
+        assertFalse(Files.exists(directory.resolve("config.json.tmp")));
+    }
+
+    @Test
+    void when_bytesUnchanged_expect_noWrite() throws IOException {
+        Path path = directory.resolve("config.json");
+        objectMapper.writeValue(path.toFile(), new Config());
+        ConfigStore configStore = new ConfigStore(path, 60_000);
+
+        configStore.markDirty(new Config());
+        configStore.flush();
+
+        assertEquals(0, configStore.getWriteCount());
+    }
+
+    @Test
+    void when_debounceElapsed_expect_writtenInBackground() throws IOException, InterruptedException {
+        Path path = directory.resolve("config.json");
+        ConfigStore configStore = new ConfigStore(path, 10);
+        configStore.markDirty(new Config());
+
+        for (int i = 0; i < 100 && configStore.isDirty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, configStore.getWriteCount());
+        assertTrue(Files.exists(path));
+        configStore.close();
+    }
+
+    @Test
+    void when_cantWrite_throw_IOException() throws IOException {
+        ConfigStore configStore = new ConfigStore(directory.resolve("missing").resolve("config.json"), 60_000);
+        configStore.markDirty(new Config());
+
+        assertThrows(IOException.class, configStore::flush);
+    }
+}
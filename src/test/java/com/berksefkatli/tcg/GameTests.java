@@ -1,11 +1,16 @@
 package com.berksefkatli.tcg;
 
+import com.berksefkatli.tcg.event.GameListener;
 import com.berksefkatli.tcg.exception.TcgException.CannotPlayCardNotInHandException;
 import com.berksefkatli.tcg.exception.TcgException.GameNotLiveException;
 import com.berksefkatli.tcg.exception.TcgException.NotEnoughManaException;
 import com.berksefkatli.tcg.model.Card;
 import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameSnapshot;
 import com.berksefkatli.tcg.model.Player;
+import com.berksefkatli.tcg.model.PlayerSnapshot;
+import com.berksefkatli.tcg.model.ReadOnlyPlayer;
+import com.berksefkatli.tcg.model.TestConfigs;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -142,6 +147,103 @@ class GameTests {
         assertThrows(GameNotLiveException.class, () -> game.playCard(card));
     }
 
+    @Test
+    void when_tryPlayCardNotInHand_expect_cardNotInHandResultAndNoChange() {
+        Game game = startNewTestGame(1);
+        Player activePlayer = game.getCopyOfActivePlayer();
+
+        assertEquals(PlayResult.CARD_NOT_IN_HAND, game.tryPlayCard(9));
+        assertEquals(CannotPlayCardNotInHandException.MESSAGE, PlayResult.CARD_NOT_IN_HAND.getMessage());
+        assertEquals(activePlayer.getHand(), game.getCopyOfActivePlayer().getHand());
+        assertEquals(activePlayer.getMana(), game.getCopyOfActivePlayer().getMana());
+    }
+
+    @Test
+    void when_readOnlyActivePlayer_expect_liveStateOfActivePlayer() {
+        Game game = startNewTestGame(1);
+        ReadOnlyPlayer activePlayer = game.getReadOnlyActivePlayer();
+        Player before = game.getCopyOfActivePlayer();
+
+        game.playCard(new Card(1));
+
+        assertEquals(before.getMana() - 1, activePlayer.getMana());
+        assertEquals(before.getHandSize() - 1, activePlayer.getHandSize());
+    }
+
+    @Test
+    void when_tryPlayCardWithCostHigherThanMana_expect_notEnoughManaResult() {
+        Config config = new Config();
+        config.setInitialHandSize(2);
+        config.setInitialManaCapacity(0);
+        List<Card> customDeck = new ArrayList<>();
+        customDeck.add(new Card(2));
+        customDeck.add(new Card(0));
+        config.setDeck(customDeck);
+
+        Game game = new Game(System.out, config);
+
+        assertEquals(PlayResult.NOT_ENOUGH_MANA, game.tryPlayCard(2));
+    }
+
+    @Test
+    void when_tryPlayCardAndTryEndTurnAfterGameEnded_expect_gameNotLiveResult() {
+        Game game = new Game(System.out, new Config());
+        while (game.isGameLive()) {
+            skipRound(game, 1);
+        }
+
+        assertEquals(PlayResult.GAME_NOT_LIVE, game.tryPlayCard(1));
+        assertEquals(PlayResult.GAME_NOT_LIVE, game.tryEndTurn());
+    }
+
+    @Test
+    void when_tryPlayCardAndTryEndTurnLegal_expect_okResultAndSameEffectAsThrowingApi() {
+        Config config = getConfigWithAllSameCostDeck(1);
+        Game game = new Game(GameListener.NO_OP, config, 42);
+        Game throwingGame = new Game(GameListener.NO_OP, config, 42);
+
+        assertEquals(PlayResult.OK, game.tryPlayCard(1));
+        throwingGame.playCard(new Card(1));
+        assertEquals(PlayResult.OK, game.tryEndTurn());
+        throwingGame.endTurn();
+
+        assertEquals(throwingGame.captureSnapshot().getPlayers().toString(),
+                game.captureSnapshot().getPlayers().toString());
+        assertEquals(throwingGame.captureSnapshot().getActivePlayer().toString(),
+                game.captureSnapshot().getActivePlayer().toString());
+    }
+
+    @Test
+    void when_manyPlayersEliminatedAtOnce_expect_seatOrderKeptAndOneWinner() {
+        Config config = getConfigWithAllSameCostDeck(1);
+        Set<Player> players = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            players.add(new Player("Player " + i));
+        }
+        config.setPlayers(players);
+        Game game = new Game(GameListener.NO_OP, config, 7);
+
+        while (game.isGameLive()) {
+            if (game.tryPlayCard(1) != PlayResult.OK) {
+                game.endTurn();
+            }
+            List<Player> livePlayers = game.getCopyOfPlayers();
+            for (int i = 1; i < livePlayers.size(); i++) {
+                assertTrue(livePlayers.get(i - 1).getSeat() < livePlayers.get(i).getSeat());
+            }
+        }
+        assertEquals(1, game.getCopyOfPlayers().size());
+        assertEquals(game.getCopyOfPlayers().get(0).getSeat(), game.getWinnerSeat());
+    }
+
+    @Test
+    void when_ruleBroken_expect_stacklessException() {
+        Game game = startNewTestGame(1);
+        CannotPlayCardNotInHandException e =
+                assertThrows(CannotPlayCardNotInHandException.class, () -> game.playCard(new Card(9)));
+        assertEquals(0, e.getStackTrace().length);
+    }
+
     @Test
     void when_playerHealthLessThan0AfterReceivingDamage_expect_playerToLose() {
         // Increase initial mana capacity to avoid auto skipping even with all 3 cost deck.
@@ -309,6 +411,102 @@ class GameTests {
         assertNotEquals(99, game.getCopyOfPlayers().get(0).getHealth());
     }
 
+    @Test
+    void when_headless_expect_eventsDeliveredToListener() {
+        List<String> events = new ArrayList<>();
+        GameListener listener = new GameListener() {
+            @Override
+            public void onTurnEnded(Player player) {
+                events.add("turnEnded");
+            }
+
+            @Override
+            public void onPlayerEliminated(Player player) {
+                events.add("eliminated");
+            }
+
+            @Override
+            public void onGameWon(Player player) {
+                events.add("won");
+            }
+        };
+        Game game = new Game(listener, getConfigWithAllSameCostDeck(0));
+
+        while (game.isGameLive()) {
+            game.endTurn();
+        }
+
+        assertTrue(events.contains("turnEnded"));
+        assertEquals(2, events.stream().filter("eliminated"::equals).count());
+        assertEquals("won", events.get(events.size() - 1));
+    }
+
+    @Test
+    void when_sameSeed_expect_sameGame() {
+        Config config = new Config();
+        Game game = new Game(GameListener.NO_OP, config, 11);
+        Game sameGame = new Game(GameListener.NO_OP, config, 11);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(game.getCopyOfActivePlayer(), sameGame.getCopyOfActivePlayer());
+            assertEquals(game.getCopyOfActivePlayer().getHand(), sameGame.getCopyOfActivePlayer().getHand());
+            game.endTurn();
+            sameGame.endTurn();
+        }
+    }
+
+    @Test
+    void when_snapshotsNotEnabled_expect_noSnapshotPublished() {
+        Game game = startNewTestGame(0);
+        game.playCard(new Card(0));
+        assertNull(game.getSnapshot());
+    }
+
+    @Test
+    void when_actionTaken_expect_newSnapshotPublished() {
+        Game game = startNewTestGame(0);
+        game.enableSnapshots();
+        GameSnapshot snapshot = game.getSnapshot();
+        Player activePlayer = game.getCopyOfActivePlayer();
+
+        assertEquals(activePlayer.getName(), snapshot.getActivePlayer().getName());
+        assertEquals(activePlayer.getHandSize(), snapshot.getActivePlayer().getHandSize());
+        assertEquals(3, snapshot.getPlayers().size());
+
+        game.playCard(new Card(0));
+
+        assertTrue(game.getSnapshot().getSequence() > snapshot.getSequence());
+        assertEquals(activePlayer.getHandSize(), snapshot.getActivePlayer().getHandSize());
+        assertEquals(activePlayer.getHandSize() - 1, game.getSnapshot().getActivePlayer().getHandSize());
+    }
+
+    @Test
+    void when_playerUnchanged_expect_snapshotShared() {
+        Game game = startNewTestGame(0);
+        game.enableSnapshots();
+        GameSnapshot snapshot = game.getSnapshot();
+
+        // Playing a dud card only changes the active player.
+        game.playCard(new Card(0));
+
+        GameSnapshot nextSnapshot = game.getSnapshot();
+        for (int i = 0; i < snapshot.getPlayers().size(); i++) {
+            PlayerSnapshot playerSnapshot = snapshot.getPlayers().get(i);
+            if (playerSnapshot.getSeat() == snapshot.getActivePlayer().getSeat()) {
+                assertNotSame(playerSnapshot, nextSnapshot.getPlayers().get(i));
+            } else {
+                assertSame(playerSnapshot, nextSnapshot.getPlayers().get(i));
+            }
+        }
+    }
+
+    @Test
+    void when_snapshotHandRead_expect_unmodifiable() {
+        Game game = startNewTestGame(0);
+        List<Card> hand = game.captureSnapshot().getActivePlayer().getHand();
+        assertThrows(UnsupportedOperationException.class, () -> hand.add(new Card(1)));
+    }
+
     private Game startNewTestGame(int allCardCosts) {
         return new Game(System.out, getConfigWithAllSameCostDeck(allCardCosts));
     }
@@ -325,13 +523,7 @@ class GameTests {
     private Config getConfigWithAllSameCostDeck(int cost) {
         // Supplying an all zero or one deck guarantees that every player will have playable cards on their turn
         // This effectively disables automatic turn skipping feature as long as players keep one card in hand.
-        Config config = new Config();
-
-        List<Card> customDeck = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
-            customDeck.add(new Card(cost));
-        }
-        config.setDeck(customDeck);
+        Config config = TestConfigs.withAllSameCostDeck(cost);
 
         Set<Player> players = new HashSet<>();
         players.add(new Player("Rahmi"));
@@ -39,4 +39,13 @@ class TcgTests {
         assertTrue(errContent.toString().isEmpty());
         assertTrue(outContent.toString().contains("1) Start game"));
     }
+
+    @Test
+    void when_simulateWithUnknownFormat_expect_usage() {
+        System.setOut(out);
+        System.setErr(err);
+        Tcg.main(new String[]{"simulate", "1", "xml"});
+        assertTrue(outContent.toString().isEmpty());
+        assertTrue(errContent.toString().contains(Tcg.SIMULATE_USAGE));
+    }
 }
@@ -0,0 +1,59 @@
+package com.berksefkatli.tcg.bot;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.TestConfigs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsBotTests {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    public void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void when_lethalCardInHand_expect_cardPlayed() {
+        Config config = TestConfigs.withAllSameCostDeck(3);
+        config.setInitialHealth(3);
+        config.setInitialManaCapacity(2);
+        Game game = new Game(GameListener.NO_OP, config, 1);
+
+        MctsBot bot = new MctsBot(2_000, 0, pool, 1);
+
+        assertEquals(3, bot.chooseMove(game));
+        bot.play(game);
+        assertFalse(game.isGameLive());
+    }
+
+    @Test
+    void when_chooseMove_expect_legalMoveAndPlayoutsCounted() {
+        Game game = new Game(GameListener.NO_OP, new Config(), 2);
+        MctsBot bot = new MctsBot(1_000, 0, pool, 2);
+
+        int move = bot.chooseMove(game);
+
+        assertTrue(move == MctsBot.END_TURN || (game.getActivePlayableCostsMask() & (1L << move)) != 0);
+        assertEquals(1_000, bot.getLastPlayouts());
+    }
+
+    @Test
+    void when_playWholeGame_expect_gameEnds() {
+        Game game = new Game(GameListener.NO_OP, new Config(), 3);
+        MctsBot bot = new MctsBot(200, 0, pool, 3);
+
+        while (game.isGameLive()) {
+            bot.play(game);
+        }
+
+        assertNotEquals(-1, game.getWinnerSeat());
+    }
+}
@@ -0,0 +1,76 @@
+package com.berksefkatli.tcg.bot;
+
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnPlannerTests {
+
+    @Test
+    void when_plan_expect_mostDamageWithinMana() {
+        Config config = new Config();
+        config.setMaxManaCapacity(20);
+        TurnPlanner planner = new TurnPlanner(config);
+        Player player = getPlayerWithHand(3, 3, 5, 1);
+
+        player.setMana(5);
+        long plan = planner.plan(player);
+        assertEquals(5, planner.getDamage(plan));
+        // 5 alone beats 3 + 1 and uses fewer cards than any other plan dealing 5.
+        assertEquals(1, planner.getCount(plan, 5));
+
+        player.setMana(7);
+        plan = planner.plan(player);
+        assertEquals(7, planner.getDamage(plan));
+        assertEquals(2, planner.getCount(plan, 3));
+        assertEquals(1, planner.getCount(plan, 1));
+
+        player.setMana(20);
+        assertEquals(12, planner.getDamage(planner.plan(player)));
+    }
+
+    @Test
+    void when_onlyDudCards_expect_emptyPlan() {
+        TurnPlanner planner = new TurnPlanner(new Config());
+        Player player = getPlayerWithHand(0, 0, 4);
+        player.setMana(3);
+
+        long plan = planner.plan(player);
+
+        assertEquals(0, plan);
+        assertEquals(-1, planner.getHighestCost(plan));
+    }
+
+    @Test
+    void when_cachedPlanRequested_expect_samePlan() {
+        TurnPlanner planner = new TurnPlanner(new Config(), 4);
+        Player player = getPlayerWithHand(2, 3, 4);
+        player.setMana(6);
+
+        long plan = planner.plan(player);
+
+        assertEquals(plan, planner.plan(player));
+        assertEquals(6, planner.getDamage(plan));
+    }
+
+    @Test
+    void when_prewarm_expect_everyReachableHandPlanned() {
+        Config config = new Config();
+        config.setMaxHandSize(1);
+        config.setInitialHandSize(1);
+        TurnPlanner planner = new TurnPlanner(config);
+
+        // Empty hand plus one hand per distinct cost, for every mana from 0 to 10.
+        assertEquals((1 + 9) * 11, planner.prewarm());
+    }
+
+    private Player getPlayerWithHand(int... costs) {
+        Player player = new Player("Berk");
+        for (int cost : costs) {
+            player.addToHand(cost);
+        }
+        return player;
+    }
+}
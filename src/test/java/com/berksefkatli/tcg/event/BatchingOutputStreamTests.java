@@ -0,0 +1,152 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingOutputStreamTests {
+
+    @Test
+    void when_linesWritten_expect_nothingUntilFlush() throws IOException {
+        CountingOutputStream target = new CountingOutputStream();
+        PrintStream out = new PrintStream(new BatchingOutputStream(target), false);
+
+        out.println("first");
+        out.println("second");
+        assertEquals(0, target.writes);
+
+        out.flush();
+        assertEquals(1, target.writes);
+        assertEquals(1, target.flushes);
+        assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(), target.toString());
+    }
+
+    @Test
+    void when_gameCommand_expect_oneWriteAndFlush() {
+        CountingOutputStream target = new CountingOutputStream();
+        Game game = new Game(new PrintStream(new BatchingOutputStream(target), false), new Config());
+        assertEquals(1, target.writes);
+
+        game.endTurn();
+
+        assertEquals(2, target.writes);
+        assertEquals(2, target.flushes);
+        assertTrue(target.toString().contains("'s turn ended"));
+    }
+
+    @Test
+    void when_async_expect_batchesWrittenInOrder() throws IOException {
+        CountingOutputStream target = new CountingOutputStream();
+        BatchingOutputStream batching = new BatchingOutputStream(target, 2);
+        PrintStream out = new PrintStream(batching, false);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            out.println(i);
+            out.flush();
+            expected.append(i).append(System.lineSeparator());
+        }
+        out.close();
+
+        assertTrue(batching.isAsync());
+        assertEquals(1000, target.writes);
+        assertEquals(expected.toString(), target.toString());
+    }
+
+    @Test
+    void when_asyncWriteFails_throw_IOException() throws InterruptedException {
+        BatchingOutputStream batching = new BatchingOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        }, 1);
+        batching.write('x');
+
+        assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                batching.write('x');
+                batching.flush();
+                Thread.sleep(1);
+            }
+        });
+    }
+
+    @Test
+    void when_asyncWriterStuck_throw_IOExceptionAfterTimeout() throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BatchingOutputStream batching = new BatchingOutputStream(new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                }
+            }, 1, executor, 50);
+            batching.write('x');
+
+            assertThrows(IOException.class, batching::flush);
+            batching.write('x');
+            assertThrows(IOException.class, batching::flush);
+            release.countDown();
+            assertThrows(IOException.class, batching::close);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void when_asyncWithExecutor_expect_writerTaskStopsOnClose() throws IOException, InterruptedException {
+        CountingOutputStream target = new CountingOutputStream();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PrintStream out = new PrintStream(new BatchingOutputStream(target, 2, executor, 1000), false);
+            out.println("hello");
+            out.flush();
+            out.close();
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+            assertEquals("hello" + System.lineSeparator(), target.toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void when_noBuffers_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchingOutputStream(new ByteArrayOutputStream(), 0));
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int writes;
+        private int flushes;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            writes++;
+            super.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
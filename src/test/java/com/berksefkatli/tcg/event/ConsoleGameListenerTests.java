@@ -0,0 +1,53 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsoleGameListenerTests {
+
+    private ByteArrayOutputStream outContent;
+    private ConsoleGameListener listener;
+
+    @BeforeEach
+    public void setUpStreams() {
+        outContent = new ByteArrayOutputStream();
+        listener = new ConsoleGameListener(new PrintStream(outContent));
+    }
+
+    @Test
+    void when_cardPlayed_expect_printCost() {
+        listener.onCardPlayed(new Player("Berk"), 3);
+        assertEquals("Berk played a card with 3 cost" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void when_damageDealt_expect_printDamage() {
+        listener.onDamageDealt(new Player("Rahmi"), 4);
+        assertEquals("Rahmi took 4 damage!" + System.lineSeparator(), outContent.toString());
+    }
+
+    @Test
+    void when_awaitingPlay_expect_printGameState() {
+        Player player = new Player("Berk");
+        listener.onAwaitingPlay(Collections.singletonList(player), player);
+        assertTrue(outContent.toString().contains("Name: Berk"));
+        assertTrue(outContent.toString().contains("Active player: Berk"));
+        assertTrue(outContent.toString().contains("Active player's hand: []"));
+    }
+
+    @Test
+    void when_noOpListener_expect_noOutput() {
+        Player player = new Player("Berk");
+        GameListener.NO_OP.onCardPlayed(player, 3);
+        GameListener.NO_OP.onGameWon(player);
+        assertEquals("", outContent.toString());
+    }
+}
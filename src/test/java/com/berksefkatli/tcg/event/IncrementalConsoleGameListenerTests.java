@@ -0,0 +1,112 @@
+package com.berksefkatli.tcg.event;
+
+import com.berksefkatli.tcg.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalConsoleGameListenerTests {
+
+    private ByteArrayOutputStream outContent;
+    private IncrementalConsoleGameListener listener;
+    private Player berk;
+    private Player rahmi;
+    private List<Player> players;
+
+    @BeforeEach
+    public void setUp() {
+        outContent = new ByteArrayOutputStream();
+        listener = new IncrementalConsoleGameListener(new PrintStream(outContent));
+        berk = player("Berk", 0);
+        rahmi = player("Rahmi", 1);
+        players = new ArrayList<>(Arrays.asList(berk, rahmi));
+    }
+
+    @Test
+    void when_firstRender_expect_fullState() {
+        listener.onAwaitingPlay(players, berk);
+
+        assertTrue(outContent.toString().contains(berk.toString()));
+        assertTrue(outContent.toString().contains(rahmi.toString()));
+    }
+
+    @Test
+    void when_healthChanged_expect_onlyDelta() {
+        listener.onAwaitingPlay(players, berk);
+        outContent.reset();
+        rahmi.setHealth(27);
+
+        listener.onAwaitingPlay(players, rahmi);
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Name: Rahmi, Health: 30 -> 27" + System.lineSeparator()));
+        assertFalse(output.contains("Name: Berk"));
+        assertTrue(output.contains("Active player: Rahmi"));
+    }
+
+    @Test
+    void when_nothingChanged_expect_none() {
+        listener.onAwaitingPlay(players, berk);
+        outContent.reset();
+
+        listener.onAwaitingPlay(players, berk);
+
+        assertTrue(outContent.toString().contains("Changes: " + System.lineSeparator() + "None"));
+    }
+
+    @Test
+    void when_handAndManaChanged_expect_bothInOneLine() {
+        listener.onAwaitingPlay(players, berk);
+        outContent.reset();
+        berk.setMana(0);
+        berk.addToHand(4);
+
+        listener.onAwaitingPlay(players, berk);
+
+        assertTrue(outContent.toString().contains("Name: Berk, Mana: 3 -> 0, Cards in hand: 1 -> 2"));
+        assertTrue(outContent.toString().contains("Active player's hand: [2, 4]"));
+    }
+
+    @Test
+    void when_playerEliminated_expect_reportedOnce() {
+        listener.onAwaitingPlay(players, berk);
+        players.remove(rahmi);
+        outContent.reset();
+
+        listener.onAwaitingPlay(players, berk);
+        assertTrue(outContent.toString().contains("Eliminated: Rahmi"));
+
+        outContent.reset();
+        listener.onAwaitingPlay(players, berk);
+        assertFalse(outContent.toString().contains("Eliminated"));
+    }
+
+    @Test
+    void when_refreshRequested_expect_fullStateAgain() {
+        listener.onAwaitingPlay(players, berk);
+        outContent.reset();
+
+        listener.onRefreshRequested(players, berk);
+
+        assertTrue(outContent.toString().contains(berk.toString()));
+        assertTrue(outContent.toString().contains(rahmi.toString()));
+        assertFalse(outContent.toString().contains("Changes"));
+    }
+
+    private static Player player(String name, int seat) {
+        Player player = new Player(name);
+        player.setSeat(seat);
+        player.setHealth(30);
+        player.setManaCapacity(3);
+        player.setMana(3);
+        player.addToHand(2);
+        return player;
+    }
+}
@@ -0,0 +1,98 @@
+package com.berksefkatli.tcg.flight;
+
+import com.berksefkatli.tcg.ConfigStore;
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.Player;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void when_recordingWithProfile_expect_gameAndConfigEvents() throws Exception {
+        Path recordingPath = tempDir.resolve("game.jfr");
+        try (Recording recording = new Recording(Configuration.create(new InputStreamReader(
+                FlightRecording.class.getResourceAsStream(FlightRecording.PROFILE), StandardCharsets.UTF_8)))) {
+            recording.start();
+            Game game = new Game(FlightRecording.wrap(GameListener.NO_OP), new Config(), 1);
+            game.endTurn();
+            while (game.isGameLive()) {
+                long playableCostsMask = game.getActivePlayableCostsMask();
+                if (playableCostsMask == 0) {
+                    game.endTurn();
+                } else {
+                    game.tryPlayCard(Long.numberOfTrailingZeros(playableCostsMask));
+                }
+            }
+            try (ConfigStore configStore = new ConfigStore(tempDir.resolve("config.json"), 0)) {
+                configStore.markDirty(new Config());
+                configStore.flush();
+            }
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        Set<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toSet());
+        assertTrue(names.contains("com.berksefkatli.tcg.GameCreated"));
+        assertTrue(names.contains("com.berksefkatli.tcg.PlayCard"));
+        assertTrue(names.contains("com.berksefkatli.tcg.EndTurn"));
+        assertTrue(names.contains("com.berksefkatli.tcg.PlayerEliminated"));
+        assertTrue(names.contains("com.berksefkatli.tcg.ConfigSaved"));
+        RecordedEvent playCard = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.berksefkatli.tcg.PlayCard"))
+                .findFirst().get();
+        assertTrue(playCard.getLong("gameId") > 0);
+        assertNotNull(playCard.getString("playerName"));
+        assertTrue(playCard.getInt("cost") >= 0);
+        assertFalse(playCard.getDuration().isNegative());
+    }
+
+    @Test
+    void when_autoSkipsInARow_expect_oneCascadeEventCountingThem() throws IOException {
+        FlightRecorderGameListener listener = new FlightRecorderGameListener();
+        try (Recording recording = new Recording()) {
+            recording.enable(AutoSkipCascadeEvent.class).withoutThreshold();
+            recording.start();
+            Player player = new Player("Berk");
+            listener.onTurnSkipped(player);
+            listener.onTurnSkipped(player);
+            listener.onTurnSkipped(player);
+            listener.onCommandCompleted();
+            recording.stop();
+            Path recordingPath = tempDir.resolve("skips.jfr");
+            recording.dump(recordingPath);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.berksefkatli.tcg.AutoSkipCascade"))
+                    .collect(Collectors.toList());
+            assertEquals(1, events.size());
+            assertEquals(3, events.get(0).getInt("skippedTurns"));
+            assertEquals(listener.getGameId(), events.get(0).getLong("gameId"));
+        }
+    }
+
+    @Test
+    void when_noRecording_expect_noConfigSaveToken() {
+        assertTrue(FlightRecording.isAvailable());
+        assertNull(FlightRecording.beginConfigSave());
+    }
+}
@@ -0,0 +1,179 @@
+package com.berksefkatli.tcg.journal;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void when_recordsAppended_expect_readBackInOrder() throws IOException {
+        try (Journal journal = new Journal(directory)) {
+            journal.gameStarted(7, 42, 99);
+            journal.cardDrawn(7, 3);
+            journal.cardPlayed(7, 3);
+            journal.turnEnded(7);
+            journal.playerOverloaded(7);
+        }
+
+        List<String> records = readAll();
+
+        assertEquals(5, records.size());
+        assertEquals("7 started 42 99", records.get(0));
+        assertEquals("7 drew 3", records.get(1));
+        assertEquals("7 played 3", records.get(2));
+        assertEquals("7 ended", records.get(3));
+        assertEquals("7 overloaded", records.get(4));
+    }
+
+    @Test
+    void when_segmentFull_expect_rollOver() throws IOException {
+        try (Journal journal = new Journal(directory, 32, FsyncPolicy.everyRecords(2))) {
+            for (int i = 0; i < 10; i++) {
+                journal.cardPlayed(1, i);
+            }
+            assertTrue(journal.getSegmentIndex() > 0);
+        }
+
+        List<String> records = readAll();
+
+        assertEquals(10, records.size());
+        assertEquals("1 played 9", records.get(9));
+        assertTrue(Files.exists(Journal.segmentPath(directory, 1)));
+    }
+
+    @Test
+    void when_reopened_expect_newSegmentAfterExistingOnes() throws IOException {
+        try (Journal journal = new Journal(directory)) {
+            journal.turnEnded(1);
+        }
+        try (Journal journal = new Journal(directory, 1024, FsyncPolicy.everyMillis(10))) {
+            assertEquals(1, journal.getSegmentIndex());
+            journal.turnEnded(2);
+        }
+
+        List<String> records = readAll();
+
+        assertEquals(2, records.size());
+        assertEquals("2 ended", records.get(1));
+    }
+
+    @Test
+    void when_otherFilesWithSuffix_expect_ignored() throws IOException {
+        Files.createFile(directory.resolve("notes" + Journal.SEGMENT_SUFFIX));
+        try (Journal journal = new Journal(directory)) {
+            assertEquals(0, journal.getSegmentIndex());
+            journal.turnEnded(1);
+        }
+
+        assertEquals(1, readAll().size());
+    }
+
+    @Test
+    void when_lastRecordTorn_expect_recordsBeforeIt() throws IOException {
+        try (Journal journal = new Journal(directory, 1024, FsyncPolicy.onRollover())) {
+            journal.gameStarted(1, 42, 99);
+            journal.cardPlayed(1, 3);
+        }
+        // Cut the card record after its game id.
+        try (FileChannel channel = FileChannel.open(Journal.segmentPath(directory, 0), StandardOpenOption.WRITE)) {
+            channel.truncate(Journal.HEADER_SIZE + Long.BYTES * 2 + Journal.CHECKSUM_SIZE + Journal.HEADER_SIZE);
+        }
+
+        List<String> records = readAll();
+
+        assertEquals(1, records.size());
+        assertEquals("1 started 42 99", records.get(0));
+    }
+
+    @Test
+    void when_recordTornInsideSegment_expect_readStopsBeforeIt() throws IOException {
+        try (Journal journal = new Journal(directory, 1024, FsyncPolicy.onRollover())) {
+            journal.gameStarted(1, 42, 99);
+            journal.cardPlayed(1, 3);
+            journal.turnEnded(1);
+        }
+        // Keep the card record's type byte but zero the rest of it, as if its later page never reached the disk.
+        int cardRecord = Journal.HEADER_SIZE + Long.BYTES * 2 + Journal.CHECKSUM_SIZE;
+        int tornBytes = Journal.HEADER_SIZE - Byte.BYTES + Integer.BYTES + Journal.CHECKSUM_SIZE;
+        try (FileChannel channel = FileChannel.open(Journal.segmentPath(directory, 0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(tornBytes), cardRecord + Byte.BYTES);
+        }
+
+        List<String> records = readAll();
+
+        assertEquals(1, records.size());
+        assertEquals("1 started 42 99", records.get(0));
+    }
+
+    @Test
+    void when_gameJournaled_expect_startCommandsAndDraws() throws IOException {
+        Config config = new Config();
+        Game game;
+        try (Journal journal = new Journal(directory)) {
+            game = new Game(new JournalListener(journal, 3), config, 5);
+            game.endTurn();
+            game.endTurn();
+        }
+
+        List<String> records = readAll();
+
+        assertEquals("3 started 5 " + config.getFingerprint(), records.get(0));
+        assertTrue(records.get(1).startsWith("3 drew"));
+        assertEquals(2, records.stream().filter("3 ended"::equals).count());
+        // One turn draw per started turn, auto skipped turns add more.
+        assertTrue(records.stream().filter(record -> record.startsWith("3 drew")).count() >= 3);
+    }
+
+    @Test
+    void when_invalidFsyncPolicy_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> FsyncPolicy.everyRecords(0));
+        assertThrows(IllegalArgumentException.class, () -> FsyncPolicy.everyMillis(0));
+    }
+
+    private List<String> readAll() throws IOException {
+        List<String> records = new ArrayList<>();
+        JournalReader.read(directory, new JournalVisitor() {
+            @Override
+            public void onGameStarted(int gameId, long seed, long configFingerprint) {
+                records.add(gameId + " started " + seed + " " + configFingerprint);
+            }
+
+            @Override
+            public void onCardPlayed(int gameId, int cost) {
+                records.add(gameId + " played " + cost);
+            }
+
+            @Override
+            public void onTurnEnded(int gameId) {
+                records.add(gameId + " ended");
+            }
+
+            @Override
+            public void onCardDrawn(int gameId, int cost) {
+                records.add(gameId + " drew " + cost);
+            }
+
+            @Override
+            public void onPlayerOverloaded(int gameId) {
+                records.add(gameId + " overloaded");
+            }
+        });
+        return records;
+    }
+}
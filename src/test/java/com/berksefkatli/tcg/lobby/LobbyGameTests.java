@@ -0,0 +1,123 @@
+package com.berksefkatli.tcg.lobby;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.PlayResult;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.model.TestConfigs;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LobbyGameTests {
+
+    @Test
+    void when_sameSeedAndMovesAsGame_expect_sameWinner() {
+        GameTemplate template = new GameTemplate(TestConfigs.withPlayers(7));
+        for (long seed = 0; seed < 20; seed++) {
+            Game game = new Game(GameListener.NO_OP, template, seed);
+            LobbyGame lobbyGame = new LobbyGame(LobbyListener.NO_OP, template, seed);
+            while (game.isGameLive()) {
+                assertEquals(game.getActiveSeat(), lobbyGame.getActiveSeat());
+                long playableCostsMask = game.getActivePlayableCostsMask();
+                if (playableCostsMask == 0) {
+                    game.endTurn();
+                    lobbyGame.tryEndTurn();
+                } else {
+                    int cost = Long.numberOfTrailingZeros(playableCostsMask);
+                    assertEquals(cost, lobbyGame.getCheapestPlayableCost());
+                    game.tryPlayCard(cost);
+                    lobbyGame.tryPlayCard(cost);
+                }
+            }
+            assertFalse(lobbyGame.isGameLive());
+            assertEquals(game.getWinnerSeat(), lobbyGame.getWinnerSeat());
+        }
+    }
+
+    @Test
+    void when_areaDamage_expect_allOtherLivePlayersHitAndDeadFound() {
+        Config config = TestConfigs.withPlayers(10_000);
+        config.setDeck(TestConfigs.deckOf(5));
+        config.setInitialHealth(5);
+        config.setMaxManaCapacity(10);
+        config.setInitialManaCapacity(4);
+        GameTemplate template = new GameTemplate(config);
+        List<int[]> areaDamages = new ArrayList<>();
+        LobbyGame game = new LobbyGame(new LobbyListener() {
+            @Override
+            public void onAreaDamage(int seat, int damage, int victims, int eliminated, int remaining) {
+                areaDamages.add(new int[]{seat, damage, victims, eliminated, remaining});
+            }
+        }, template, 3);
+        int attacker = game.getActiveSeat();
+
+        assertEquals(PlayResult.OK, game.tryPlayCard(5));
+
+        assertArrayEquals(new int[]{attacker, 5, 9_999, 9_999, 1}, areaDamages.get(0));
+        assertEquals(attacker, game.getWinnerSeat());
+        assertEquals(5, game.getHealth(attacker));
+        assertEquals(0, game.getHealth((attacker + 1) % 10_000));
+    }
+
+    @Test
+    void when_eliminatedPlayerHitAgain_expect_healthUnchanged() {
+        Config config = TestConfigs.withPlayers(3);
+        config.setDeck(TestConfigs.deckOf(1));
+        config.setInitialHealth(2);
+        GameTemplate template = new GameTemplate(config);
+        LobbyGame game = new LobbyGame(LobbyListener.NO_OP, template, 11);
+        int[] healthBefore = new int[3];
+
+        while (game.isGameLive()) {
+            for (int seat = 0; seat < 3; seat++) {
+                healthBefore[seat] = game.getHealth(seat);
+            }
+            if (game.tryPlayCard(1) != PlayResult.OK) {
+                game.tryEndTurn();
+            }
+            for (int seat = 0; seat < 3; seat++) {
+                if (healthBefore[seat] <= 0) {
+                    assertEquals(healthBefore[seat], game.getHealth(seat));
+                    assertFalse(game.isInGame(seat));
+                }
+            }
+        }
+        assertEquals(1, game.getRemainingPlayerCount());
+    }
+
+    @Test
+    void when_invalidPlays_expect_resultsWithoutChange() {
+        Config config = TestConfigs.withPlayers(3);
+        config.setDeck(TestConfigs.deckOf(1));
+        LobbyGame game = new LobbyGame(LobbyListener.NO_OP, new GameTemplate(config), 5);
+        int seat = game.getActiveSeat();
+        int handSize = game.getHandSize(seat);
+
+        assertEquals(PlayResult.CARD_NOT_IN_HAND, game.tryPlayCard(9));
+        assertEquals(handSize, game.getHandSize(seat));
+        assertEquals(seat, game.getActiveSeat());
+    }
+
+    @Test
+    void when_areaDamage_expect_oneSummaryLine() {
+        Config config = TestConfigs.withPlayers(1_000);
+        config.setDeck(TestConfigs.deckOf(1));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LobbyGame game = new LobbyGame(new ConsoleLobbyListener(new PrintStream(output)),
+                new GameTemplate(config), 9);
+        output.reset();
+
+        game.tryPlayCard(1);
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].endsWith(" dealt 1 damage to 999 players, 0 lost, 1000 remaining"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.berksefkatli.tcg.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTests {
+
+    @Test
+    void when_valueRecorded_expect_bucketUpperBoundWithinEighthOfValue() {
+        for (long value : new long[]{0, 1, 7, 8, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            long upperBound = Histogram.LAYOUT.upperBound(Histogram.LAYOUT.bucket(value));
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 8);
+        }
+    }
+
+    @Test
+    void when_quantiles_expect_approximateRanks() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(1_000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+        assertEquals(500, histogram.getQuantile(0.5), 500 / 8);
+        assertEquals(990, histogram.getQuantile(0.99), 990 / 8);
+        assertEquals(1_000, histogram.getQuantile(1));
+    }
+
+    @Test
+    void when_empty_expect_zeros() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getQuantile(0.5));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    void when_recordedFromManyThreads_expect_noLostCounts() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+}
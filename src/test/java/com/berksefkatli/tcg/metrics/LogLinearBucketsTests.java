@@ -0,0 +1,32 @@
+package com.berksefkatli.tcg.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLinearBucketsTests {
+
+    @Test
+    void when_consecutiveBuckets_expect_boundsTouchWithoutGaps() {
+        LogLinearBuckets buckets = new LogLinearBuckets(4);
+        for (int bucket = 1; bucket < buckets.getBucketCount(); bucket++) {
+            assertEquals(buckets.upperBound(bucket - 1) + 1, buckets.lowerBound(bucket));
+        }
+        assertEquals(Long.MAX_VALUE, buckets.upperBound(buckets.getBucketCount() - 1));
+    }
+
+    @Test
+    void when_valueBucketed_expect_valueInsideBucket() {
+        LogLinearBuckets buckets = new LogLinearBuckets(2);
+        for (long value : new long[]{0, 3, 4, 5, 8, 1_000, Long.MAX_VALUE}) {
+            int bucket = buckets.bucket(value);
+            assertTrue(buckets.lowerBound(bucket) <= value);
+            assertTrue(buckets.upperBound(bucket) >= value);
+        }
+    }
+
+    @Test
+    void when_subBucketBitsOutOfRange_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogLinearBuckets(0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.berksefkatli.tcg.metrics;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsGameListenerTests {
+
+    @Test
+    void when_gamePlayedToTheEnd_expect_countersAndHistogramsRecorded() {
+        GameMetrics processMetrics = new GameMetrics();
+        MetricsGameListener listener = new MetricsGameListener(processMetrics);
+        Game game = new Game(listener, new Config(), 1);
+        int endTurns = 0;
+        while (game.isGameLive()) {
+            long playableCostsMask = game.getActivePlayableCostsMask();
+            if (playableCostsMask == 0) {
+                game.endTurn();
+                endTurns++;
+            } else {
+                game.tryPlayCard(Long.numberOfTrailingZeros(playableCostsMask));
+            }
+        }
+
+        GameMetrics gameMetrics = listener.getGameMetrics();
+        assertEquals(1, gameMetrics.getGamesStarted());
+        assertEquals(1, gameMetrics.getGamesWon());
+        assertTrue(gameMetrics.getCardsPlayed() > 0);
+        assertEquals(gameMetrics.getCardsPlayed(), gameMetrics.getPlayCardCount());
+        assertEquals(endTurns, gameMetrics.getEndTurnCount());
+        assertTrue(gameMetrics.getDamageDealt() > 0);
+        assertEquals(1, gameMetrics.getEliminations());
+        assertTrue(gameMetrics.getGameTurnsMax() > 0);
+        assertEquals(gameMetrics.getCardsPlayed(), processMetrics.getCardsPlayed());
+        assertEquals(gameMetrics.getGameTurnsMax(), processMetrics.getGameTurnsMax());
+    }
+
+    @Test
+    void when_gameLive_expect_publishedUntilClosed() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        MetricsGameListener listener = new MetricsGameListener(new GameMetrics());
+        new Game(listener, new Config(), 1);
+
+        ObjectName objectName = listener.getGameMetrics().getObjectName();
+        assertNotNull(objectName);
+        assertEquals(1L, server.getAttribute(objectName, "GamesStarted"));
+
+        listener.close();
+        assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    void when_processMetricsUsed_expect_registeredWithPlatformServer() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(GameMetrics.process().getObjectName()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.berksefkatli.tcg.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCountsTests {
+
+    @Test
+    void when_add_expect_countPerCost() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(3);
+        cardCounts.add(3);
+        cardCounts.add(0);
+        assertEquals(2, cardCounts.count(3));
+        assertEquals(1, cardCounts.count(0));
+        assertEquals(0, cardCounts.count(1));
+        assertEquals(3, cardCounts.size());
+    }
+
+    @Test
+    void when_addOutsideRange_expect_rangeGrown() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(5);
+        cardCounts.add(-2);
+        cardCounts.add(9);
+        assertEquals(-2, cardCounts.getFirstCost());
+        assertEquals(9, cardCounts.getLastCost());
+        assertEquals(Arrays.asList(new Card(-2), new Card(5), new Card(9)), cardCounts.toCards());
+    }
+
+    @Test
+    void when_remove_expect_onlyCardsInMultisetRemoved() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(2);
+        assertFalse(cardCounts.remove(4));
+        assertTrue(cardCounts.remove(2));
+        assertFalse(cardCounts.remove(2));
+        assertTrue(cardCounts.isEmpty());
+    }
+
+    @Test
+    void when_copy_expect_independentCounts() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(1);
+        CardCounts copy = new CardCounts(cardCounts);
+        copy.add(1);
+        assertEquals(1, cardCounts.count(1));
+        assertEquals(2, copy.count(1));
+    }
+
+    @Test
+    void when_addAndRemove_expect_minCostAndMaskMaintained() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(4);
+        cardCounts.add(2);
+        cardCounts.add(2);
+        cardCounts.add(70);
+        assertEquals(2, cardCounts.getMinCost());
+        assertEquals((1L << 2) | (1L << 4), cardCounts.getCostsMask());
+
+        cardCounts.remove(2);
+        assertEquals(2, cardCounts.getMinCost());
+        cardCounts.remove(2);
+        assertEquals(4, cardCounts.getMinCost());
+        assertEquals(1L << 4, cardCounts.getCostsMask());
+
+        cardCounts.remove(4);
+        assertEquals(70, cardCounts.getMinCost());
+        assertEquals(0, cardCounts.getCostsMask());
+    }
+
+    @Test
+    void when_clear_expect_empty() {
+        CardCounts cardCounts = new CardCounts();
+        cardCounts.add(1);
+        cardCounts.add(7);
+        cardCounts.clear();
+        assertTrue(cardCounts.isEmpty());
+        assertFalse(cardCounts.contains(7));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ConfigTests {
@@ -153,4 +154,14 @@ class ConfigTests {
                 "Bleeding damage amount: " + config.getBleedingDamageAmount() + System.lineSeparator();
         assertEquals(expectedString, config.toString());
     }
+
+    @Test
+    void when_fingerprint_expect_changesWithRules() {
+        Config config = new Config();
+        long fingerprint = config.getFingerprint();
+
+        assertEquals(fingerprint, new Config().getFingerprint());
+        config.setBleedingDamageAmount(config.getBleedingDamageAmount() + 1);
+        assertNotEquals(fingerprint, config.getFingerprint());
+    }
 }
@@ -0,0 +1,62 @@
+package com.berksefkatli.tcg.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrawPileTests {
+
+    @Test
+    void when_draw_expect_costsInOrder() {
+        DrawPile drawPile = new DrawPile(new int[]{4, 1, 7});
+        assertEquals(4, drawPile.draw());
+        assertEquals(1, drawPile.draw());
+        assertEquals(1, drawPile.size());
+        assertEquals(7, drawPile.draw());
+        assertTrue(drawPile.isEmpty());
+    }
+
+    @Test
+    void when_toCards_expect_remainingCardsInOrder() {
+        DrawPile drawPile = new DrawPile(new int[]{4, 1, 7});
+        drawPile.draw();
+        assertEquals(Arrays.asList(new Card(1), new Card(7)), new ArrayList<>(drawPile.toCards()));
+    }
+
+    @Test
+    void when_copy_expect_independentPosition() {
+        DrawPile drawPile = new DrawPile(new int[]{4, 1});
+        DrawPile copy = new DrawPile(drawPile);
+        copy.draw();
+        assertEquals(2, drawPile.size());
+        assertEquals(1, copy.size());
+    }
+
+    @Test
+    void when_shuffle_expect_samePermutationForSameSeed() {
+        DrawPile drawPile = new DrawPile(new int[]{0, 1, 2, 3, 4, 5, 6, 7});
+        DrawPile sameSeed = new DrawPile(new int[]{0, 1, 2, 3, 4, 5, 6, 7});
+        drawPile.shuffle(new SplittableRandom(3));
+        sameSeed.shuffle(new SplittableRandom(3));
+
+        assertEquals(new ArrayList<>(sameSeed.toCards()), new ArrayList<>(drawPile.toCards()));
+        assertEquals(8, drawPile.toCounts().size());
+        for (int cost = 0; cost < 8; cost++) {
+            assertEquals(1, drawPile.toCounts().count(cost));
+        }
+    }
+
+    @Test
+    void when_shuffle_expect_drawnCardsUntouched() {
+        DrawPile drawPile = new DrawPile(new int[]{9, 1, 2, 3});
+        drawPile.draw();
+        drawPile.shuffle(new SplittableRandom(1));
+
+        assertEquals(3, drawPile.size());
+        assertFalse(drawPile.toCards().contains(new Card(9)));
+    }
+}
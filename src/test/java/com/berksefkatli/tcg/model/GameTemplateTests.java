@@ -0,0 +1,76 @@
+package com.berksefkatli.tcg.model;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTemplateTests {
+
+    @Test
+    void when_compiled_expect_configCopied() {
+        Config config = new Config();
+        GameTemplate template = new GameTemplate(config);
+
+        assertEquals(config.getPlayers().size(), template.getPlayerCount());
+        assertEquals(config.getDeck().size(), template.getDeckSize());
+        assertEquals(config.getDeck().get(0).getCost(), template.getCost(0));
+        assertEquals(config.getInitialHealth(), template.getInitialHealth());
+        assertEquals(config.getMaxHandSize(), template.getMaxHandSize());
+        assertEquals(config.getFingerprint(), template.getFingerprint());
+    }
+
+    @Test
+    void when_configChangedAfterwards_expect_templateUnchanged() {
+        Config config = new Config();
+        GameTemplate template = new GameTemplate(config);
+        List<Card> deck = config.getDeck();
+
+        config.setInitialHealth(1);
+        deck.set(0, new Card(99));
+        template.copyDeck()[0] = 99;
+
+        assertEquals(new Config().getInitialHealth(), template.getInitialHealth());
+        assertNotEquals(99, template.getCost(0));
+    }
+
+    @Test
+    void when_deckSmallerThanHand_throw_InvalidConfigurationException() {
+        Config config = new Config();
+        config.getDeck().clear();
+        config.getDeck().add(new Card(1));
+
+        assertThrows(InvalidConfigurationException.class, () -> new GameTemplate(config));
+    }
+
+    @Test
+    void when_sharedAcrossThreads_expect_sameGamesAsFromConfig() throws Exception {
+        Config config = new Config();
+        GameTemplate template = new GameTemplate(config);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Long> fromTemplate;
+        try {
+            fromTemplate = pool.submit(() -> IntStream.range(0, 200).parallel()
+                    .mapToObj(seed -> new Game(GameListener.NO_OP, template, seed).getZobristHash())
+                    .collect(Collectors.toList())).get();
+        } finally {
+            pool.shutdownNow();
+        }
+        List<Long> fromConfig = new ArrayList<>();
+        for (int seed = 0; seed < 200; seed++) {
+            fromConfig.add(new Game(GameListener.NO_OP, config, seed).getZobristHash());
+        }
+
+        assertEquals(fromConfig, fromTemplate);
+        assertTrue(fromConfig.stream().distinct().count() > 1);
+    }
+}
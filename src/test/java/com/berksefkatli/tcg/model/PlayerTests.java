@@ -33,6 +33,69 @@ class PlayerTests {
         assertNotEquals(player, player3);
     }
 
+    @Test
+    void when_copy_expect_independentHandAndDeck() {
+        Player player = new Player("Berk");
+        player.setDrawPile(new DrawPile(new int[]{2, 3}));
+        player.addToHand(player.drawCard());
+        Player copy = new Player(player);
+        copy.addToHand(copy.drawCard());
+        assertEquals(1, player.getHandSize());
+        assertEquals(1, player.getDeckSize());
+        assertEquals(2, copy.getHandSize());
+        assertEquals(0, copy.getDeckSize());
+    }
+
+    @Test
+    void when_getPlayableCards_expect_cardsWithinMana() {
+        Player player = new Player("Berk");
+        player.addToHand(5);
+        player.addToHand(1);
+        player.addToHand(1);
+        player.setMana(2);
+        assertEquals(2, player.getPlayableCards().size());
+        assertTrue(player.hasInHand(5));
+        assertTrue(player.removeFromHand(5));
+        assertFalse(player.hasInHand(5));
+    }
+
+    @Test
+    void when_hasPlayableCard_expect_cheapestCardComparedToMana() {
+        Player player = new Player("Berk");
+        assertFalse(player.hasPlayableCard());
+        player.addToHand(3);
+        player.addToHand(6);
+        player.setMana(2);
+        assertFalse(player.hasPlayableCard());
+        assertEquals(0, player.playableCostsMask());
+        player.setMana(3);
+        assertTrue(player.hasPlayableCard());
+        assertEquals(1L << 3, player.playableCostsMask());
+        player.setMana(100);
+        assertEquals((1L << 3) | (1L << 6), player.playableCostsMask());
+    }
+
+    @Test
+    void when_sameStateInDifferentOrder_expect_sameZobristHash() {
+        Player player = new Player("Berk");
+        player.setSeat(1);
+        player.addToHand(3);
+        player.addToHand(5);
+        player.setHealth(10);
+        player.setMana(2);
+        player.removeFromHand(5);
+
+        Player samePlayer = new Player("Berk");
+        samePlayer.setMana(2);
+        samePlayer.addToHand(3);
+        samePlayer.setHealth(10);
+        samePlayer.setSeat(1);
+
+        assertEquals(player.getZobristHash(), samePlayer.getZobristHash());
+        samePlayer.addToHand(3);
+        assertNotEquals(player.getZobristHash(), samePlayer.getZobristHash());
+    }
+
     @Test
     void when_hashCode_expect_hashOfName() {
         Player player = new Player("Berk");
@@ -0,0 +1,39 @@
+package com.berksefkatli.tcg.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Config fixtures shared by the tests of every package.
+public final class TestConfigs {
+
+    public static final int DECK_SIZE = 20;
+
+    private TestConfigs() {
+    }
+
+    public static Config withPlayers(int playerCount) {
+        Config config = new Config();
+        Set<Player> players = new LinkedHashSet<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("Player " + i));
+        }
+        config.setPlayers(players);
+        return config;
+    }
+
+    public static Config withAllSameCostDeck(int cost) {
+        Config config = new Config();
+        config.setDeck(deckOf(cost));
+        return config;
+    }
+
+    public static List<Card> deckOf(int cost) {
+        List<Card> deck = new ArrayList<>();
+        for (int i = 0; i < DECK_SIZE; i++) {
+            deck.add(new Card(cost));
+        }
+        return deck;
+    }
+}
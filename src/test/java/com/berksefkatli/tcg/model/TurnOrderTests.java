@@ -0,0 +1,74 @@
+package com.berksefkatli.tcg.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnOrderTests {
+
+    @Test
+    void when_advance_expect_seatsInOrderWrappingAround() {
+        TurnOrder turnOrder = new TurnOrder(3);
+        turnOrder.setActiveSeat(1);
+        assertEquals(2, turnOrder.advance());
+        assertEquals(0, turnOrder.advance());
+        assertEquals(1, turnOrder.advance());
+    }
+
+    @Test
+    void when_removeInactiveSeat_expect_activeSeatKeptAndSeatSkipped() {
+        TurnOrder turnOrder = new TurnOrder(4);
+        turnOrder.setActiveSeat(1);
+        turnOrder.remove(2);
+        assertEquals(1, turnOrder.getActiveSeat());
+        assertEquals(3, turnOrder.size());
+        assertFalse(turnOrder.isLive(2));
+        assertEquals(3, turnOrder.advance());
+    }
+
+    @Test
+    void when_removeActiveSeat_expect_nextAdvanceToSeatAfterIt() {
+        TurnOrder turnOrder = new TurnOrder(4);
+        turnOrder.setActiveSeat(2);
+        turnOrder.remove(2);
+        assertEquals(1, turnOrder.getActiveSeat());
+        assertEquals(3, turnOrder.advance());
+    }
+
+    @Test
+    void when_removeFirstSeat_expect_iterationFromNextLowestSeat() {
+        TurnOrder turnOrder = new TurnOrder(4);
+        turnOrder.remove(0);
+        turnOrder.remove(2);
+        assertEquals(1, turnOrder.first());
+        assertEquals(3, turnOrder.next(1));
+        assertEquals(1, turnOrder.next(3));
+    }
+
+    @Test
+    void when_copy_expect_independentRing() {
+        TurnOrder turnOrder = new TurnOrder(3);
+        TurnOrder copy = new TurnOrder(turnOrder);
+        copy.remove(1);
+        copy.advance();
+        assertEquals(3, turnOrder.size());
+        assertEquals(0, turnOrder.getActiveSeat());
+        assertEquals(2, copy.size());
+        assertEquals(2, copy.getActiveSeat());
+    }
+
+    @Test
+    void when_removeRemovedSeat_throw_IllegalArgumentException() {
+        TurnOrder turnOrder = new TurnOrder(3);
+        turnOrder.remove(1);
+        assertThrows(IllegalArgumentException.class, () -> turnOrder.remove(1));
+        assertThrows(IllegalArgumentException.class, () -> turnOrder.setActiveSeat(1));
+    }
+
+    @Test
+    void when_removeLastSeat_throw_IllegalStateException() {
+        TurnOrder turnOrder = new TurnOrder(2);
+        turnOrder.remove(0);
+        assertThrows(IllegalStateException.class, () -> turnOrder.remove(1));
+    }
+}
@@ -0,0 +1,125 @@
+package com.berksefkatli.tcg.replay;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.journal.Journal;
+import com.berksefkatli.tcg.journal.JournalListener;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.replay.Replayer.Verdict;
+import com.berksefkatli.tcg.simulation.GreedyStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayerTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void when_replayed_expect_sameFinalState() throws IOException {
+        Config config = new Config();
+        List<Game> games = playJournaledGames(config, 1);
+        GameRecord record = GameRecord.readJournal(directory).get(0);
+
+        Game replayed = new Replayer(config).replay(record.getSeed(), record.getActions());
+
+        assertFalse(replayed.isGameLive());
+        assertEquals(games.get(0).getWinnerSeat(), replayed.getWinnerSeat());
+        assertEquals(games.get(0).getZobristHash(), replayed.getZobristHash());
+    }
+
+    @Test
+    void when_fastForward_expect_stopAtTurn() {
+        Config config = new Config();
+        int[] actions = new int[20];
+        Arrays.fill(actions, GameRecord.END_TURN);
+        Replayer replayer = new Replayer(config);
+
+        Game atStart = replayer.fastForward(3, actions, 1);
+        Game later = replayer.fastForward(3, actions, 4);
+
+        assertEquals(new Game(GameListener.NO_OP, config, 3).getZobristHash(), atStart.getZobristHash());
+        assertNotEquals(atStart.getZobristHash(), later.getZobristHash());
+        assertTrue(later.isGameLive());
+    }
+
+    @Test
+    void when_verifyAll_expect_everyGameMatched() throws IOException {
+        Config config = new Config();
+        playJournaledGames(config, 100);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BatchVerification verification;
+        try {
+            verification = new Replayer(config).verifyAll(GameRecord.readJournal(directory), pool);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(100, verification.getGames());
+        assertTrue(verification.isAllMatched());
+        assertEquals(0, verification.getConfigChangedGames());
+    }
+
+    @Test
+    void when_rulesChanged_expect_gamesNotMatched() throws IOException {
+        playJournaledGames(new Config(), 20);
+        Config changedConfig = new Config();
+        changedConfig.setDeck(new ArrayList<>(Collections.nCopies(20, new Card(1))));
+
+        BatchVerification verification = new Replayer(changedConfig)
+                .verifyAll(GameRecord.readJournal(directory), ForkJoinPool.commonPool());
+
+        assertEquals(20, verification.getConfigChangedGames());
+        assertEquals(0, verification.getCount(Verdict.MATCHED));
+        assertEquals(20, verification.getCount(Verdict.DIVERGED) + verification.getCount(Verdict.ILLEGAL_ACTION));
+    }
+
+    @Test
+    void when_recordedDrawDiffers_expect_diverged() throws IOException {
+        Config config = new Config();
+        playJournaledGames(config, 1);
+        GameRecord record = GameRecord.readJournal(directory).get(0);
+        GameRecord tampered = new GameRecord(record.getSeed(), record.getConfigFingerprint());
+        for (int i = 0; i < record.getEventCount(); i++) {
+            long event = record.getEvent(i);
+            int value = GameRecord.getValue(event) + (i == 0 ? 100 : 0);
+            tampered.addEvent(GameRecord.getType(event), value);
+        }
+
+        assertEquals(Journal.CARD_DRAWN, GameRecord.getType(record.getEvent(0)));
+        assertEquals(Verdict.MATCHED, new Replayer(config).verify(record));
+        assertEquals(Verdict.DIVERGED, new Replayer(config).verify(tampered));
+    }
+
+    private List<Game> playJournaledGames(Config config, int count) throws IOException {
+        GreedyStrategy strategy = new GreedyStrategy();
+        List<Game> games = new ArrayList<>();
+        try (Journal journal = new Journal(directory)) {
+            for (int gameId = 0; gameId < count; gameId++) {
+                Game game = new Game(new JournalListener(journal, gameId), config);
+                while (game.isGameLive()) {
+                    Card card = strategy.chooseCard(game.getReadOnlyActivePlayer());
+                    if (card == null) {
+                        game.endTurn();
+                    } else {
+                        game.playCard(card);
+                    }
+                }
+                games.add(game);
+            }
+        }
+        return games;
+    }
+}
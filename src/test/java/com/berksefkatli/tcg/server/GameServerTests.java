@@ -0,0 +1,194 @@
+package com.berksefkatli.tcg.server;
+
+import com.berksefkatli.tcg.exception.TcgException.CannotPlayCardNotInHandException;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTests {
+
+    private static final String PROMPT = "Choose a card to play";
+
+    private GameServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        Config config = new Config();
+        config.setDeck(new ArrayList<>(Collections.nCopies(10, new Card(1))));
+        config.setInitialManaCapacity(1);
+        server = new GameServer(config, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void when_clientConnects_expect_gameStarted() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            assertTrue(client.readUntil(PROMPT).contains("Active player's hand: [1, 1, 1"));
+        }
+    }
+
+    @Test
+    void when_clientSendsCost_expect_cardPlayed() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send("1");
+            String log = client.readUntil(PROMPT);
+            assertTrue(log.contains("played a card with 1 cost"));
+            assertTrue(log.contains("took 1 damage!"));
+        }
+    }
+
+    @Test
+    void when_clientSendsInvalidCommand_expect_errorAndRetry() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send("invalidChoice");
+            assertEquals(GameServer.INVALID_COMMAND_MESSAGE, client.readLine());
+            client.send("5");
+            assertEquals(CannotPlayCardNotInHandException.MESSAGE, client.readLine());
+        }
+    }
+
+    @Test
+    void when_clientSendsEnd_expect_nextTurn() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send("end");
+            assertTrue(client.readUntil(PROMPT).contains("'s turn ended"));
+        }
+    }
+
+    @Test
+    void when_clientSendsRefresh_expect_everyPlayerAgain() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send("end");
+            assertTrue(client.readUntil(PROMPT).contains("Changes: "));
+            client.send("refresh");
+            String log = client.readUntil(PROMPT);
+            assertTrue(log.contains("Name: Player1"));
+            assertTrue(log.contains("Name: Player2"));
+        }
+    }
+
+    @Test
+    void when_clientSendsBurstBeforeReading_expect_everyCommandAnswered() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.send(String.join("\n", Collections.nCopies(500, "refresh")));
+            for (int i = 0; i < 500; i++) {
+                assertNotNull(client.readUntil(PROMPT));
+            }
+        }
+    }
+
+    @Test
+    void when_clientQuits_expect_disconnected() throws IOException, InterruptedException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send("quit");
+            assertNull(client.readUntil(null));
+        }
+        assertSessionCount(0);
+    }
+
+    @Test
+    void when_lineTooLong_expect_error() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readUntil(PROMPT);
+            client.send(String.join("", Collections.nCopies(1000, "1")));
+            assertEquals(GameServer.LINE_TOO_LONG_MESSAGE, client.readLine());
+        }
+    }
+
+    @Test
+    void when_manyClientsConnect_expect_oneGameEach() throws IOException, InterruptedException {
+        List<Client> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < 50; i++) {
+                clients.add(new Client(server.getPort()));
+            }
+            for (Client client : clients) {
+                client.readUntil(PROMPT);
+            }
+            assertSessionCount(50);
+            Client client = clients.get(0);
+            client.send("1");
+            assertTrue(client.readUntil(PROMPT).contains("played a card with 1 cost"));
+        } finally {
+            for (Client client : clients) {
+                client.close();
+            }
+        }
+        assertSessionCount(0);
+    }
+
+    private void assertSessionCount(int expected) throws InterruptedException {
+        // Sessions are counted on the server thread, give it a moment to catch up with the clients.
+        for (int i = 0; i < 100 && server.getSessionCount() != expected; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, server.getSessionCount());
+    }
+
+    private static class Client implements AutoCloseable {
+
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setSoTimeout(5000);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(socket.getOutputStream(), true);
+        }
+
+        void send(String line) {
+            writer.print(line + "\n");
+            writer.flush();
+        }
+
+        String readLine() throws IOException {
+            return reader.readLine();
+        }
+
+        // Returns everything up to and including the first line containing the text, or null on disconnect.
+        String readUntil(String text) throws IOException {
+            StringBuilder log = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.append(line).append(System.lineSeparator());
+                if (text != null && line.contains(text)) {
+                    return log.toString();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
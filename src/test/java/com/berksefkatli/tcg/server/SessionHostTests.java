@@ -0,0 +1,151 @@
+package com.berksefkatli.tcg.server;
+
+import com.berksefkatli.tcg.model.Config;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class SessionHostTests {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String TEST_CONFIG_FILE_PATH = "src/test/resources/testConfig.json";
+
+    private SessionHost host;
+
+    @BeforeEach
+    public void startHost() throws IOException {
+        objectMapper.writeValue(new File(TEST_CONFIG_FILE_PATH), new Config());
+        host = new SessionHost(TEST_CONFIG_FILE_PATH,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1);
+        host.start();
+    }
+
+    @AfterEach
+    public void stopHost() throws IOException {
+        host.close();
+    }
+
+    @Test
+    void when_clientConnects_expect_mainMenu() throws IOException, InterruptedException {
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            assertTrue(readUntil(reader, "3) Quit"));
+            assertEventually(1, host::getActiveSessions);
+
+            writer(socket).println("3");
+            assertFalse(readUntil(reader, "3) Quit"));
+        }
+        assertEventually(0, host::getActiveSessions);
+        assertEquals(1, host.getCommandCount());
+        assertTrue(host.getAverageCommandLatencyNanos() > 0);
+        assertTrue(host.getMaxCommandLatencyNanos() >= host.getAverageCommandLatencyNanos());
+    }
+
+    @Test
+    void when_clientPlays_expect_gameplayOverSocket() throws IOException, InterruptedException {
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            PrintWriter writer = writer(socket);
+            writer.println("1");
+            assertTrue(readUntil(reader, "Choose a card to play"));
+            writer.println("invalidChoice");
+            assertTrue(readUntil(reader, "Please enter a card's cost value, 'end' or 'quit'"));
+            writer.println("quit");
+            writer.println("3");
+            assertFalse(readUntil(reader, "Choose a card to play"));
+        }
+        // Commands that arrive together are timed together.
+        assertEventually(0, host::getActiveSessions);
+        assertTrue(host.getCommandCount() >= 3);
+    }
+
+    @Test
+    void when_poolIsBusy_expect_sessionQueued() throws IOException, InterruptedException {
+        assumeFalse(host.isUsingVirtualThreads());
+        try (Socket first = connect(); Socket second = connect()) {
+            assertTrue(readUntil(reader(first), "3) Quit"));
+            assertEventually(1, host::getQueuedSessions);
+
+            writer(first).println("3");
+            assertTrue(readUntil(reader(second), "3) Quit"));
+            assertEventually(0, host::getQueuedSessions);
+        }
+    }
+
+    @Test
+    void when_clientCustomizesConfig_expect_serverConfigUnchanged() throws IOException, InterruptedException {
+        int initialHealth = new Config().getInitialHealth();
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            PrintWriter writer = writer(socket);
+            writer.println("2");
+            writer.println("3");
+            writer.println(initialHealth + 7);
+            writer.println("10");
+            writer.println("3");
+            assertFalse(readUntil(reader, "Please enter a valid option."));
+        }
+        assertEventually(0, host::getActiveSessions);
+        assertEquals(initialHealth,
+                objectMapper.readValue(new File(TEST_CONFIG_FILE_PATH), Config.class).getInitialHealth());
+    }
+
+    @Test
+    void when_closedWithQueuedSessions_expect_noQueuedSessions() throws IOException, InterruptedException {
+        assumeFalse(host.isUsingVirtualThreads());
+        try (Socket first = connect(); Socket second = connect()) {
+            assertTrue(readUntil(reader(first), "3) Quit"));
+            assertEventually(1, host::getQueuedSessions);
+
+            host.close();
+            assertEquals(0, host.getQueuedSessions());
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), host.getPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static PrintWriter writer(Socket socket) throws IOException {
+        return new PrintWriter(socket.getOutputStream(), true);
+    }
+
+    // Returns false if the session ended before the text showed up.
+    private static boolean readUntil(BufferedReader reader, String text) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertEventually(int expected, IntSupplier actual) throws InterruptedException {
+        for (int i = 0; i < 100 && actual.getAsInt() != expected; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, actual.getAsInt());
+    }
+}
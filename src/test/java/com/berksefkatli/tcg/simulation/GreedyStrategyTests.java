@@ -0,0 +1,36 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.model.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GreedyStrategyTests {
+
+    @Test
+    void when_cardsPlayable_expect_mostExpensiveChosen() {
+        Player player = playerWithHand(10, 1, 4, 7, 12);
+        assertEquals(7, new GreedyStrategy().chooseCard(player).getCost());
+    }
+
+    @Test
+    void when_playableCardCostsMoreThan63_expect_itChosenOverMaskedCards() {
+        Player player = playerWithHand(100, 5, 70);
+        assertEquals(70, new GreedyStrategy().chooseCard(player).getCost());
+    }
+
+    @Test
+    void when_nothingPlayable_expect_null() {
+        Player player = playerWithHand(0, 1, 2);
+        assertNull(new GreedyStrategy().chooseCard(player));
+    }
+
+    private Player playerWithHand(int mana, int... costs) {
+        Player player = new Player("Berk");
+        player.setMana(mana);
+        for (int cost : costs) {
+            player.addToHand(cost);
+        }
+        return player;
+    }
+}
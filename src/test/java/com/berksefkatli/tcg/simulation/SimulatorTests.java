@@ -0,0 +1,63 @@
+package com.berksefkatli.tcg.simulation;
+
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorTests {
+
+    @Test
+    void when_run_expect_everyGameCounted() {
+        SimulationResult result = new Simulator(new Config()).run(1_000, 42);
+
+        assertEquals(1_000, result.getGames());
+        assertEquals(0, result.getUnfinishedGames());
+        assertTrue(result.getFirstPlayerWinRate() > 0 && result.getFirstPlayerWinRate() < 1);
+        assertTrue(result.getAverageTurns() > 0);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void when_sameSeed_expect_sameResultRegardlessOfParallelism() {
+        Config config = new Config();
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+        SimulationResult singleThreaded;
+        SimulationResult multiThreaded;
+        try {
+            singleThreaded = new Simulator(config, new GreedyStrategy(), singleThreadPool).run(500, 7);
+            multiThreaded = new Simulator(config, new GreedyStrategy(), multiThreadPool).run(500, 7);
+        } finally {
+            singleThreadPool.shutdownNow();
+            multiThreadPool.shutdownNow();
+        }
+
+        assertEquals(singleThreaded.getFirstPlayerWins(), multiThreaded.getFirstPlayerWins());
+        assertEquals(singleThreaded.getAverageTurns(), multiThreaded.getAverageTurns());
+    }
+
+    @Test
+    void when_strategyChoosesCardNotInHand_throw_IllegalStateException() {
+        Simulator simulator = new Simulator(new Config(), activePlayer -> new Card(99), ForkJoinPool.commonPool());
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> simulator.run(1, 1));
+        assertTrue(e.getMessage().contains("99 cost"));
+    }
+
+    @Test
+    void when_gameSeed_expect_distinctPerGame() {
+        assertNotEquals(Simulator.gameSeed(1, 0), Simulator.gameSeed(1, 1));
+        assertEquals(Simulator.gameSeed(1, 5), Simulator.gameSeed(1, 5));
+    }
+
+    @Test
+    void when_sharedConfig_expect_configDeckNotShuffled() {
+        Config config = new Config();
+        String deckBefore = config.getDeck().toString();
+        new Simulator(config).run(100, 3);
+        assertEquals(deckBefore, config.getDeck().toString());
+    }
+}
@@ -0,0 +1,95 @@
+package com.berksefkatli.tcg.solver;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.berksefkatli.tcg.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverTests {
+
+    @Test
+    void when_lethalCardInHand_expect_certainWin() {
+        Config config = getSmallConfig();
+        PlayerSnapshot first = new PlayerSnapshot("A", 0, 5, 2, 2, counts(2), counts(1));
+        PlayerSnapshot second = new PlayerSnapshot("B", 1, 2, 0, 1, counts(0), counts(1));
+
+        Solution solution = new Solver(config).solve(snapshot(first, second, first));
+
+        assertEquals(2, solution.getBestMove());
+        assertEquals(1.0, solution.getWinProbability());
+    }
+
+    @Test
+    void when_outcomeDecidedByOpponentsDraw_expect_halfWinProbability() {
+        // The opponent kills us only when drawing the 1 cost card, otherwise we draw ours and kill them.
+        Config config = getSmallConfig();
+        PlayerSnapshot first = new PlayerSnapshot("A", 0, 1, 0, 0, counts(0), counts(1));
+        PlayerSnapshot second = new PlayerSnapshot("B", 1, 1, 0, 0, counts(), counts(0, 1));
+
+        Solution solution = new Solver(config).solve(snapshot(first, second, first));
+
+        assertEquals(0.5, solution.getWinProbability(), 1e-12);
+    }
+
+    @Test
+    void when_solveGameFromStart_expect_probabilityAndTableUsed() {
+        Config config = getSmallConfig();
+        Game game = new Game(GameListener.NO_OP, config, 4);
+        Solver solver = new Solver(config);
+
+        Solution solution = solver.solve(game);
+
+        assertTrue(solution.getWinProbability() >= 0 && solution.getWinProbability() <= 1);
+        assertTrue(solver.getTableSize() > 0);
+        assertTrue(solution.getNodes() > solver.getTableSize());
+    }
+
+    @Test
+    void when_solveHeadlessCopy_expect_sameSolutionAsGame() {
+        Config config = getSmallConfig();
+        Game game = new Game(GameListener.NO_OP, config, 4);
+
+        Solution solution = new Solver(config).solve(game.headlessCopy());
+
+        assertEquals(new Solver(config).solve(game).getWinProbability(), solution.getWinProbability());
+    }
+
+    @Test
+    void when_threePlayers_throw_InvalidConfigurationException() {
+        Config config = new Config();
+        Set<Player> players = new HashSet<>(Arrays.asList(new Player("A"), new Player("B"), new Player("C")));
+        config.setPlayers(players);
+        assertThrows(InvalidConfigurationException.class, () -> new Solver(config));
+    }
+
+    private Config getSmallConfig() {
+        Config config = new Config();
+        config.setInitialHandSize(1);
+        config.setDeck(new ArrayList<>(Arrays.asList(
+                new Card(0), new Card(1), new Card(1), new Card(2), new Card(2), new Card(3))));
+        config.setInitialHealth(6);
+        config.setMaxManaCapacity(3);
+        config.setMaxHandSize(3);
+        return config;
+    }
+
+    private GameSnapshot snapshot(PlayerSnapshot first, PlayerSnapshot second, PlayerSnapshot active) {
+        return new GameSnapshot(Arrays.asList(first, second), active, true, 0);
+    }
+
+    private CardCounts counts(int... costs) {
+        CardCounts cardCounts = new CardCounts();
+        for (int cost : costs) {
+            cardCounts.add(cost);
+        }
+        return cardCounts;
+    }
+}
@@ -0,0 +1,97 @@
+package com.berksefkatli.tcg.state;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.event.GameListener;
+import com.berksefkatli.tcg.exception.TcgException.InvalidConfigurationException;
+import com.berksefkatli.tcg.model.Card;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameSnapshot;
+import com.berksefkatli.tcg.model.PlayerSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateLayoutTests {
+
+    @Test
+    void when_encodeDefaultTwoPlayerGame_expect_twoWords() {
+        assertEquals(2, new StateLayout(new Config()).getWordCount());
+    }
+
+    @Test
+    void when_decodeEncoded_expect_sameState() {
+        Config config = new Config();
+        StateLayout layout = new StateLayout(config);
+        Game game = new Game(GameListener.NO_OP, config, 5);
+        game.endTurn();
+
+        GameSnapshot snapshot = game.captureSnapshot();
+        long[] words = layout.encode(snapshot);
+        GameSnapshot decoded = layout.decode(words);
+
+        assertEquals(snapshot.getActivePlayer().getSeat(), decoded.getActivePlayer().getSeat());
+        assertEquals(snapshot.getPlayers().size(), decoded.getPlayers().size());
+        for (int i = 0; i < snapshot.getPlayers().size(); i++) {
+            PlayerSnapshot player = snapshot.getPlayers().get(i);
+            PlayerSnapshot decodedPlayer = decoded.getPlayers().get(i);
+            assertEquals(player.getName(), decodedPlayer.getName());
+            assertEquals(player.getHealth(), decodedPlayer.getHealth());
+            assertEquals(player.getMana(), decodedPlayer.getMana());
+            assertEquals(player.getManaCapacity(), decodedPlayer.getManaCapacity());
+            assertEquals(player.getHand(), decodedPlayer.getHand());
+            assertEquals(player.getDeckSize(), decodedPlayer.getDeckSize());
+        }
+        assertArrayEquals(words, layout.encode(decoded));
+    }
+
+    @Test
+    void when_stateChanges_expect_differentKey() {
+        Config config = new Config();
+        StateLayout layout = new StateLayout(config);
+        Game game = new Game(GameListener.NO_OP, config, 5);
+        StateKey key = new StateKey(layout.encode(game.captureSnapshot()));
+
+        game.endTurn();
+
+        assertNotEquals(key, new StateKey(layout.encode(game.captureSnapshot())));
+        assertEquals(new StateKey(layout.encode(game.captureSnapshot())), new StateKey(layout.encode(game.captureSnapshot())));
+    }
+
+    @Test
+    void when_countShiftsRead_expect_countsPackedBackToBack() {
+        StateLayout layout = new StateLayout(new Config());
+        int last = layout.getCostCount() - 1;
+
+        assertEquals(0, layout.getCountShift(0));
+        for (int i = 1; i <= last; i++) {
+            assertEquals(layout.getCountShift(i - 1) + layout.getCountBits(i - 1), layout.getCountShift(i));
+        }
+        assertEquals(layout.getCountsBits(), layout.getCountShift(last) + layout.getCountBits(last));
+    }
+
+    @Test
+    void when_negativeCostCard_throw_InvalidConfigurationException() {
+        Config config = new Config();
+        List<Card> deck = new ArrayList<>(Arrays.asList(new Card(-1), new Card(1), new Card(2), new Card(3)));
+        config.setDeck(deck);
+        assertThrows(InvalidConfigurationException.class, () -> new StateLayout(config));
+    }
+
+    @Test
+    void when_sameStateReachedBySameSeed_expect_sameZobristHash() {
+        Config config = new Config();
+        Game game = new Game(GameListener.NO_OP, config, 9);
+        Game sameGame = new Game(GameListener.NO_OP, config, 9);
+        assertEquals(game.getZobristHash(), sameGame.getZobristHash());
+
+        long hash = game.getZobristHash();
+        game.endTurn();
+        assertNotEquals(hash, game.getZobristHash());
+        sameGame.endTurn();
+        assertEquals(game.getZobristHash(), sameGame.getZobristHash());
+    }
+}
@@ -0,0 +1,91 @@
+package com.berksefkatli.tcg.stats;
+
+import com.berksefkatli.tcg.Game;
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.model.GameTemplate;
+import com.berksefkatli.tcg.simulation.GreedyStrategy;
+import com.berksefkatli.tcg.simulation.SimulationResult;
+import com.berksefkatli.tcg.simulation.Simulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStatsTests {
+
+    @Test
+    void when_gamesPlayed_expect_everyGameSummarized() {
+        GameTemplate template = new GameTemplate(new Config());
+        GameStats stats = new GameStats(template);
+        for (long seed = 0; seed < 50; seed++) {
+            playGreedily(new Game(stats, template, seed));
+        }
+
+        assertEquals(50, stats.getGames());
+        assertEquals(0, stats.getUnfinishedGames());
+        assertEquals(50, stats.getStarts(0) + stats.getStarts(1));
+        assertEquals(1, stats.getWinRate(0) + stats.getWinRate(1), 1e-9);
+        assertTrue(stats.getStartingPlayerWinRate() > 0);
+        assertEquals(50, stats.getGameLengths().getCount());
+        assertTrue(stats.getGameLengths().getQuantile(0.5) > 0);
+        assertEquals(50, stats.getGamesReaching(1));
+        assertTrue(stats.getAverageDamage(3) > 0);
+        assertTrue(stats.getBleedOutsPerGame() >= 0);
+    }
+
+    @Test
+    void when_gameAbandoned_expect_countedAsUnfinished() {
+        GameTemplate template = new GameTemplate(new Config());
+        GameStats stats = new GameStats(template);
+        new Game(stats, template, 1);
+        stats.endGame();
+        stats.endGame();
+
+        assertEquals(1, stats.getGames());
+        assertEquals(1, stats.getUnfinishedGames());
+    }
+
+    @Test
+    void when_simulatedInParallel_expect_sameStatsAsSingleThreaded() {
+        Config config = new Config();
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+        GameStats singleThreaded;
+        SimulationResult multiThreaded;
+        try {
+            singleThreaded = new Simulator(config, new GreedyStrategy(), singleThreadPool).run(400, 11).getStats();
+            multiThreaded = new Simulator(config, new GreedyStrategy(), multiThreadPool).run(400, 11);
+        } finally {
+            singleThreadPool.shutdownNow();
+            multiThreadPool.shutdownNow();
+        }
+
+        assertEquals(400, multiThreaded.getStats().getGames());
+        assertEquals(singleThreaded.getWins(0), multiThreaded.getStats().getWins(0));
+        assertEquals(singleThreaded.getGameLengths().getQuantile(0.9),
+                multiThreaded.getStats().getGameLengths().getQuantile(0.9));
+        assertEquals(singleThreaded.getAverageDamage(5), multiThreaded.getStats().getAverageDamage(5));
+        assertEquals(multiThreaded.getFirstPlayerWins(),
+                Math.round(multiThreaded.getStats().getStartingPlayerWinRate() * 400));
+    }
+
+    @Test
+    void when_mergeOtherConfig_throw_IllegalArgumentException() {
+        Config other = new Config();
+        other.setInitialHealth(10);
+        GameStats stats = new GameStats(new GameTemplate(new Config()));
+        assertThrows(IllegalArgumentException.class, () -> stats.merge(new GameStats(new GameTemplate(other))));
+    }
+
+    private static void playGreedily(Game game) {
+        while (game.isGameLive()) {
+            long playableCostsMask = game.getActivePlayableCostsMask();
+            if (playableCostsMask == 0) {
+                game.endTurn();
+            } else {
+                game.tryPlayCard(Long.numberOfTrailingZeros(playableCostsMask));
+            }
+        }
+    }
+}
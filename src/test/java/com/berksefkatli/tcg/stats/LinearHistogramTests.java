@@ -0,0 +1,40 @@
+package com.berksefkatli.tcg.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearHistogramTests {
+
+    @Test
+    void when_add_expect_countedInBucketAndOverflowInLast() {
+        LinearHistogram histogram = new LinearHistogram(5, 3);
+        histogram.add(0);
+        histogram.add(4);
+        histogram.add(5);
+        histogram.add(1_000);
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(2));
+        assertEquals(9, histogram.getBucketEnd(1));
+        assertEquals(Long.MAX_VALUE, histogram.getBucketEnd(2));
+    }
+
+    @Test
+    void when_merge_expect_countsAdded() {
+        LinearHistogram histogram = new LinearHistogram(5, 3);
+        LinearHistogram other = new LinearHistogram(5, 3);
+        histogram.add(1);
+        other.add(2);
+        other.add(7);
+        histogram.merge(other);
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+    }
+
+    @Test
+    void when_mergeDifferentShape_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LinearHistogram(5, 3).merge(new LinearHistogram(10, 3)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.berksefkatli.tcg.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTests {
+
+    @Test
+    void when_smallValues_expect_exactQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 1; value <= 20; value++) {
+            sketch.add(value);
+        }
+        assertEquals(10, sketch.getQuantile(0.5));
+        assertEquals(1, sketch.getQuantile(0));
+        assertEquals(20, sketch.getQuantile(1));
+        assertEquals(1, sketch.getMin());
+        assertEquals(20, sketch.getMax());
+    }
+
+    @Test
+    void when_largeValues_expect_quantilesWithinRelativeError() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 1; value <= 100_000; value++) {
+            sketch.add(value);
+        }
+        assertEquals(50_000, sketch.getQuantile(0.5), 50_000 * 0.02);
+        assertEquals(99_000, sketch.getQuantile(0.99), 99_000 * 0.02);
+    }
+
+    @Test
+    void when_partialsMerged_expect_sameQuantilesAsOneSketch() {
+        SplittableRandom random = new SplittableRandom(5);
+        QuantileSketch whole = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(1_000_000);
+            whole.add(value);
+            (i % 3 == 0 ? left : right).add(value);
+        }
+        left.merge(right);
+
+        assertEquals(whole.getCount(), left.getCount());
+        assertEquals(whole.getMin(), left.getMin());
+        assertEquals(whole.getMax(), left.getMax());
+        for (double quantile : new double[]{0.1, 0.5, 0.9, 0.99}) {
+            assertEquals(whole.getQuantile(quantile), left.getQuantile(quantile));
+        }
+    }
+
+    @Test
+    void when_bucketBounds_expect_everyValueInsideItsBucket() {
+        for (long value : new long[]{0, 31, 32, 33, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = QuantileSketch.LAYOUT.bucket(value);
+            assertTrue(QuantileSketch.LAYOUT.lowerBound(bucket) <= value);
+            assertTrue(QuantileSketch.LAYOUT.upperBound(bucket) >= value);
+        }
+    }
+
+    @Test
+    void when_negativeValue_throw_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch().add(-1));
+    }
+}
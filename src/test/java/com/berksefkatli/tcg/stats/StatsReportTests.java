@@ -0,0 +1,55 @@
+package com.berksefkatli.tcg.stats;
+
+import com.berksefkatli.tcg.model.Config;
+import com.berksefkatli.tcg.simulation.SimulationResult;
+import com.berksefkatli.tcg.simulation.Simulator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsReportTests {
+
+    private static GameStats stats;
+
+    @BeforeAll
+    static void simulate() {
+        SimulationResult result = new Simulator(new Config()).run(200, 3);
+        stats = result.getStats();
+    }
+
+    @Test
+    void when_writeCsv_expect_sectionKeyValueRows() throws IOException {
+        StringWriter writer = new StringWriter();
+        StatsReport.writeCsv(stats, writer);
+        String[] lines = writer.toString().split("\n");
+
+        assertEquals("section,key,value", lines[0]);
+        for (String line : lines) {
+            assertEquals(3, line.split(",").length, line);
+        }
+        assertTrue(writer.toString().contains("games,total,200\n"));
+        assertTrue(writer.toString().contains("win_rate_by_seat,1,"));
+        assertTrue(writer.toString().contains("game_length,p99,"));
+        assertTrue(writer.toString().contains("damage_per_turn,1,"));
+    }
+
+    @Test
+    void when_writeJson_expect_sameFiguresAsStats() throws IOException {
+        StringWriter writer = new StringWriter();
+        StatsReport.writeJson(stats, writer);
+        JsonNode root = new ObjectMapper().readTree(writer.toString());
+
+        assertEquals(200, root.get("games").asLong());
+        assertEquals(2, root.get("seats").size());
+        assertEquals(stats.getWinRate(0), root.get("seats").get(0).get("winRate").asDouble());
+        assertEquals(stats.getGameLengths().getQuantile(0.5), root.get("gameLength").get("p50").asLong());
+        assertEquals(stats.getOverloadsPerGame(), root.get("overloads").get("perGame").asDouble());
+        assertTrue(root.get("damagePerTurn").size() > 0);
+    }
+}